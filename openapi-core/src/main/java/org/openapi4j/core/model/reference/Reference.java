@@ -24,8 +24,8 @@ public class Reference {
   private final String ref;
   // The raw content of the targeted reference expression
   private JsonNode content;
-  // The mapped content of the targeted reference expression
-  private Object mappedContent;
+  // The mapped content of the targeted reference expression, mapped once
+  private volatile Object mappedContent;
 
   Reference(URL baseUrl, String canonicalRef, String ref) {
     this.baseUrl = baseUrl;
@@ -77,21 +77,30 @@ public class Reference {
    */
   @SuppressWarnings("unchecked")
   public <T> T getMappedContent(Class<T> tClass) throws DecodeException {
-    if (mappedContent == null) {
-      try {
-        mappedContent = TreeUtil.json.treeToValue(content, tClass);
-        return (T) mappedContent;
-      } catch (JsonProcessingException | RuntimeException e) {
-        throw new DecodeException(String.format(ERR_MSG, ref, tClass.getSimpleName()), e);
+    Object mapped = mappedContent;
+    if (mapped == null) {
+      // References can be shared by models read from many threads
+      synchronized (this) {
+        mapped = mappedContent;
+        if (mapped == null) {
+          try {
+            mappedContent = TreeUtil.json.treeToValue(content, tClass);
+            return (T) mappedContent;
+          } catch (JsonProcessingException | RuntimeException e) {
+            throw new DecodeException(String.format(ERR_MSG, ref, tClass.getSimpleName()), e);
+          }
+        }
       }
-    } else if (mappedContent.getClass().equals(tClass)) {
-      return (T) mappedContent;
+    }
+
+    if (mapped.getClass().equals(tClass)) {
+      return (T) mapped;
     }
 
     throw new DecodeException(
       String.format(CLASS_MISMATCH_ERR_MSG,
         ref,
-        mappedContent.getClass().getName(),
+        mapped.getClass().getName(),
         tClass.getName()));
   }
 }
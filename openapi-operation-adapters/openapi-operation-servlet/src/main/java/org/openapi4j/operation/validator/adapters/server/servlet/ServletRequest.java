@@ -42,8 +42,9 @@ public abstract class ServletRequest implements Request {
 
     // Method & path
     final DefaultRequest.Builder builder = new DefaultRequest.Builder(
-      hsr.getRequestURL().toString(),
-      Request.Method.getMethod(hsr.getMethod()));
+      Request.Method.getMethod(hsr.getMethod()),
+      hsr.getRequestURI())
+      .url(() -> hsr.getRequestURL().toString());
 
     // Query string or body
     if (HTTP_GET.equalsIgnoreCase(hsr.getMethod())) {
@@ -32,6 +32,7 @@ public class ServletTest {
     cookie = null;
 
     Mockito.when(servletRequest.getRequestURL()).thenReturn(new StringBuffer(URL));
+    Mockito.when(servletRequest.getRequestURI()).thenReturn(PATH);
     Mockito.when(servletRequest.getQueryString()).thenReturn("id=2&name=foo");
 
     MockServletInputStream msis = new MockServletInputStream(new ByteArrayInputStream("a body".getBytes()));
@@ -107,6 +108,20 @@ public class ServletTest {
       rq.getBody().getContentAsNode(null, null));
   }
 
+  @Test
+  public void rawPathTest() throws IOException {
+    mockCookies(false);
+    mockHeaders(false);
+    Mockito.when(servletRequest.getMethod()).thenReturn("GET");
+    Mockito.when(servletRequest.getRequestURI()).thenReturn("/a%20path");
+
+    Request rq = ServletRequest.of(servletRequest);
+    Assert.assertEquals("/a path", rq.getPath());
+    // URL is only built when requested
+    Mockito.verify(servletRequest, Mockito.never()).getRequestURL();
+    Assert.assertEquals(URL, rq.getURL());
+  }
+
   private void checkCommons(Request rq, boolean checkCookies, boolean checkHeaders) {
     Assert.assertEquals(PATH, rq.getPath());
 
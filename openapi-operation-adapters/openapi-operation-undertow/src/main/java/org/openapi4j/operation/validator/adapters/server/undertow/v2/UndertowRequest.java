@@ -32,9 +32,12 @@ public abstract class UndertowRequest implements Request {
     requireNonNull(hse, ERR_MSG);
 
     // Method & path
-    final DefaultRequest.Builder builder = new DefaultRequest.Builder(
-      hse.getRequestURL(),
-      Request.Method.getMethod(hse.getRequestMethod().toString()));
+    final Request.Method method = Request.Method.getMethod(hse.getRequestMethod().toString());
+    final DefaultRequest.Builder builder
+      = hse.isHostIncludedInRequestURI()
+      // Absolute form, request URI is not only the path
+      ? new DefaultRequest.Builder(hse.getRequestURL(), method)
+      : new DefaultRequest.Builder(method, hse.getRequestURI()).url(hse::getRequestURL);
 
     // Query string or body
     if (Methods.GET.equals(hse.getRequestMethod())) {
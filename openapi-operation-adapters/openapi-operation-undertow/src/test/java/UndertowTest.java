@@ -34,6 +34,7 @@ public class UndertowTest {
     cookie = null;
 
     Mockito.when(exchange.getRequestURL()).thenReturn(URL);
+    Mockito.when(exchange.getRequestURI()).thenReturn(PATH);
     Mockito.when(exchange.getQueryString()).thenReturn("id=2&name=foo");
   }
 
@@ -100,6 +101,33 @@ public class UndertowTest {
       rq.getBody().getContentAsNode(null, null));
   }
 
+  @Test
+  public void rawPathTest() {
+    mockCookies(false);
+    mockHeaders(false);
+    Mockito.when(exchange.getRequestMethod()).thenReturn(Methods.GET);
+    Mockito.when(exchange.getRequestURI()).thenReturn("/a%20path");
+
+    Request rq = UndertowRequest.of(exchange);
+    Assert.assertEquals("/a path", rq.getPath());
+    // URL is only built when requested
+    Mockito.verify(exchange, Mockito.never()).getRequestURL();
+    Assert.assertEquals(URL, rq.getURL());
+  }
+
+  @Test
+  public void absoluteFormTest() {
+    mockCookies(false);
+    mockHeaders(false);
+    Mockito.when(exchange.getRequestMethod()).thenReturn(Methods.GET);
+    Mockito.when(exchange.isHostIncludedInRequestURI()).thenReturn(true);
+    Mockito.when(exchange.getRequestURI()).thenReturn(URL);
+
+    Request rq = UndertowRequest.of(exchange);
+    checkCommons(rq, false, false);
+    Assert.assertEquals(URL, rq.getURL());
+  }
+
   private void checkCommons(Request rq, boolean checkCookies, boolean checkHeaders) {
     Assert.assertEquals(PATH, rq.getPath());
 
@@ -104,7 +104,7 @@ public class OpenApi3RouterFactoryImpl implements OpenApi3RouterFactory {
         route.handler(handler);
       }
       // Content validation handler
-      route.handler(new OperationValidationHandler(rqValidator, operationSpec.pathModel, opValidator.getOperation()));
+      route.handler(new OperationValidationHandler(opValidator));
       // User handlers
       for (Handler<RoutingContext> handler : operationSpec.handlers) {
         route.handler(handler);
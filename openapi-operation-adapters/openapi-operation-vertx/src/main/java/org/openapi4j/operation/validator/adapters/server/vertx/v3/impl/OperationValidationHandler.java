@@ -2,9 +2,8 @@ package org.openapi4j.operation.validator.adapters.server.vertx.v3.impl;
 
 import org.openapi4j.core.validation.ValidationException;
 import org.openapi4j.operation.validator.model.impl.RequestParameters;
-import org.openapi4j.operation.validator.validation.RequestValidator;
-import org.openapi4j.parser.model.v3.Operation;
-import org.openapi4j.parser.model.v3.Path;
+import org.openapi4j.operation.validator.validation.OperationValidator;
+import org.openapi4j.schema.validator.ValidationData;
 
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
@@ -12,20 +11,17 @@ import io.vertx.ext.web.RoutingContext;
 class OperationValidationHandler implements Handler<RoutingContext> {
   private static final String RQ_PARAMETERS = "rqParameters";
 
-  private final RequestValidator requestValidator;
-  private final Path path;
-  private final Operation operation;
+  private final OperationValidator opValidator;
 
-  OperationValidationHandler(RequestValidator requestValidator, Path path, Operation operation) {
-    this.requestValidator = requestValidator;
-    this.path = path;
-    this.operation = operation;
+  OperationValidationHandler(OperationValidator opValidator) {
+    this.opValidator = opValidator;
   }
 
   @Override
   public void handle(RoutingContext rc) {
     try {
-      RequestParameters rqParameters = requestValidator.validate(VertxRequest.of(rc), path, operation);
+      // Path has already been matched by the route, parameters are extracted from regex named groups
+      RequestParameters rqParameters = opValidator.validate(VertxRequest.of(rc), rc.pathParams(), new ValidationData<>());
       rc.data().put(RQ_PARAMETERS, rqParameters);
       rc.next();
     } catch (ValidationException e) {
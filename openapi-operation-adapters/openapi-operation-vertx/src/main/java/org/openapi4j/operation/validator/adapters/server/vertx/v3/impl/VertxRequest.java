@@ -6,6 +6,7 @@ import org.openapi4j.operation.validator.model.impl.DefaultRequest;
 
 import java.util.Map;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
@@ -32,14 +33,19 @@ public abstract class VertxRequest implements Request {
 
     // Method & path
     final DefaultRequest.Builder builder = new DefaultRequest.Builder(
-      serverRq.absoluteURI(),
-      Request.Method.getMethod(serverRq.rawMethod()));
+      Request.Method.getMethod(serverRq.rawMethod()),
+      serverRq.path())
+      .url(serverRq::absoluteURI);
 
     // Query string or body
     if (HttpMethod.GET.equals(serverRq.method())) {
       builder.query(serverRq.query());
     } else {
-      builder.body(Body.from(rc.getBodyAsString()));
+      // Parse from bytes, heap buffers are not copied
+      Buffer body = rc.getBody();
+      if (body != null) {
+        builder.body(Body.from(body.getByteBuf().nioBuffer()));
+      }
     }
 
     // Cookies
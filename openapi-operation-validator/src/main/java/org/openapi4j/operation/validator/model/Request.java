@@ -17,6 +17,7 @@ public interface Request {
 
   /**
    * @return The request path without the query string.
+   * @throws IllegalArgumentException if the path is malformed (i.e. invalid escape sequence).
    */
   String getPath();
 
@@ -1,29 +1,53 @@
 package org.openapi4j.operation.validator.model.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.operation.validator.util.ContentType;
 import org.openapi4j.operation.validator.util.convert.ContentConverter;
+import org.openapi4j.operation.validator.util.convert.ConversionPlan;
 import org.openapi4j.parser.model.v3.MediaType;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 import static java.util.Objects.requireNonNull;
 
 public class Body {
   private static final String BODY_REQUIRED_ERR_MSG = "Body content is required.";
+  private static final String BODY_BOUNDS_ERR_MSG = "Body offset and length are out of the array bounds.";
+  private static final String STREAM_READ_ERR_MSG = "Body stream has already been read.";
 
   private final Object bodyObject;
   private final JsonNode bodyNode;
   private final String bodyStr;
   private final InputStream bodyIs;
+  private final byte[] bodyBytes;
+  private final int bodyOffset;
+  private final int bodyLength;
+  // Stream content is not buffered, it can only be read once
+  private boolean isStreamRead; // guarded by this
+  // Java object serialization, kept so the object can be read again
+  private TokenBuffer bodyObjectTokens; // guarded by this
+  // Conversions of the content, latest first, each one published once fully built
+  private volatile Conversion conversions;
 
   private Body(Object body) {
     this.bodyObject = body;
     this.bodyNode = null;
     this.bodyStr = null;
     this.bodyIs = null;
+    this.bodyBytes = null;
+    this.bodyOffset = 0;
+    this.bodyLength = 0;
   }
 
   private Body(JsonNode bodyNode) {
@@ -31,6 +55,9 @@ public class Body {
     this.bodyNode = bodyNode;
     this.bodyStr = null;
     this.bodyIs = null;
+    this.bodyBytes = null;
+    this.bodyOffset = 0;
+    this.bodyLength = 0;
   }
 
   private Body(String body) {
@@ -38,6 +65,9 @@ public class Body {
     this.bodyNode = null;
     this.bodyStr = body;
     this.bodyIs = null;
+    this.bodyBytes = null;
+    this.bodyOffset = 0;
+    this.bodyLength = 0;
   }
 
   private Body(InputStream bodyIs) {
@@ -45,6 +75,19 @@ public class Body {
     this.bodyNode = null;
     this.bodyStr = null;
     this.bodyIs = bodyIs;
+    this.bodyBytes = null;
+    this.bodyOffset = 0;
+    this.bodyLength = 0;
+  }
+
+  private Body(byte[] bodyBytes, int offset, int length) {
+    this.bodyObject = null;
+    this.bodyNode = null;
+    this.bodyStr = null;
+    this.bodyIs = null;
+    this.bodyBytes = bodyBytes;
+    this.bodyOffset = offset;
+    this.bodyLength = length;
   }
 
   /**
@@ -99,14 +142,241 @@ public class Body {
     return new Body(body);
   }
 
+  /**
+   * Constructs a body from the given bytes.
+   * The content is parsed from bytes, there's no intermediate string conversion.
+   *
+   * @param body The given body bytes. The array is not copied.
+   * @return The constructed body.
+   */
+  public static Body from(byte[] body) {
+    requireNonNull(body, BODY_REQUIRED_ERR_MSG);
+    return new Body(body, 0, body.length);
+  }
+
+  /**
+   * Constructs a body from the given range of bytes.
+   * The content is parsed from bytes, there's no intermediate string conversion.
+   *
+   * @param body   The given body bytes. The array is not copied.
+   * @param offset The offset of the content in the array.
+   * @param length The length of the content.
+   * @return The constructed body.
+   */
+  public static Body from(byte[] body, int offset, int length) {
+    requireNonNull(body, BODY_REQUIRED_ERR_MSG);
+    if (offset < 0 || length < 0 || length > body.length - offset) {
+      throw new IndexOutOfBoundsException(BODY_BOUNDS_ERR_MSG);
+    }
+    return new Body(body, offset, length);
+  }
+
+  /**
+   * Constructs a body from the remaining bytes of the given buffer.
+   * The content is parsed from bytes, there's no intermediate string conversion.
+   * The buffer position is not changed, heap buffers are not copied.
+   *
+   * @param body The given body buffer.
+   * @return The constructed body.
+   */
+  public static Body from(ByteBuffer body) {
+    requireNonNull(body, BODY_REQUIRED_ERR_MSG);
+
+    if (body.hasArray()) {
+      return new Body(body.array(), body.arrayOffset() + body.position(), body.remaining());
+    }
+
+    byte[] bytes = new byte[body.remaining()];
+    body.duplicate().get(bytes);
+    return new Body(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Get a JSON parser over the raw content, to read the content without building the whole tree.
+   * Content read from the parser is not kept for {@link #getContentAsNode(MediaType, String)}.
+   * Stream content is read by the parser as it goes, without being buffered, so it can't be read again afterwards.
+   * Java objects are serialized once to a token buffer, whatever the content type, so no tree is built.
+   *
+   * @param rawContentType The raw content type of the body.
+   * @return The parser, {@code null} if the content type is not JSON or the content is already a tree.
+   * @throws IOException When the parser can't be created or the stream has already been read.
+   */
+  public JsonParser getContentAsJsonParser(final String rawContentType) throws IOException {
+    if (bodyObject != null) {
+      return getObjectTokens().asParser();
+    }
+
+    if (!ContentType.isJson(ContentType.getTypeOnly(rawContentType))) {
+      return null;
+    }
+
+    if (bodyBytes != null) {
+      return createJsonParser(bodyBytes, bodyOffset, bodyLength, rawContentType);
+    } else if (bodyIs != null) {
+      Charset charset = ContentType.getCharSetOrUtf8(rawContentType);
+      if (!StandardCharsets.UTF_8.equals(charset)) {
+        return TreeUtil.json.getFactory().createParser(new InputStreamReader(readStream(), charset));
+      }
+      return TreeUtil.json.getFactory().createParser(readStream());
+    } else if (bodyStr != null) {
+      return TreeUtil.json.getFactory().createParser(bodyStr);
+    }
+
+    return null;
+  }
+
+  private JsonParser createJsonParser(final byte[] bytes,
+                                      final int offset,
+                                      final int length,
+                                      final String rawContentType) throws IOException {
+    Charset charset = ContentType.getCharSetOrUtf8(rawContentType);
+    if (!StandardCharsets.UTF_8.equals(charset)) {
+      return TreeUtil.json.getFactory().createParser(new String(bytes, offset, length, charset));
+    }
+    return TreeUtil.json.getFactory().createParser(bytes, offset, length);
+  }
+
+  private synchronized TokenBuffer getObjectTokens() throws IOException {
+    if (bodyObjectTokens == null) {
+      TokenBuffer buffer = new TokenBuffer(TreeUtil.json, false);
+      if (TreeUtil.json.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+        buffer = buffer.forceUseOfBigDecimal(true);
+      }
+      TreeUtil.json.writeValue(buffer, bodyObject);
+      bodyObjectTokens = buffer;
+    }
+    return bodyObjectTokens;
+  }
+
+  private synchronized InputStream readStream() throws IOException {
+    if (isStreamRead) {
+      throw new IOException(STREAM_READ_ERR_MSG);
+    }
+    isStreamRead = true;
+    return bodyIs;
+  }
+
+  /**
+   * Get the content as tree node.
+   * The conversion is made once and kept for further calls with the same media type and content type,
+   * so a body can be consumed by many validators or by logging without being parsed again.
+   * The media type is only part of the key for XML, form and multipart content, the other conversions don't use it.
+   * <p/>
+   * Content validated while reading from {@link #getContentAsJsonParser(String)} is not kept, no tree is built for it.
+   *
+   * @param mediaType      The media type of the content.
+   * @param rawContentType The raw content type of the body.
+   * @return The content as tree node.
+   * @throws IOException When the content can't be converted or the stream has already been read by a parser.
+   */
+  public JsonNode getContentAsNode(final MediaType mediaType,
+                                   final String rawContentType) throws IOException {
+    return getContentAsNode(mediaType, null, rawContentType);
+  }
+
+  /**
+   * Get the content as tree node, with the conversion plan of form data already compiled from the media type.
+   *
+   * @param mediaType      The media type of the content.
+   * @param formPlan       The conversion plan of form data, compiled on demand if {@code null}.
+   * @param rawContentType The raw content type of the body.
+   * @return The content as tree node.
+   * @throws IOException When the content can't be converted or the stream has already been read by a parser.
+   * @see #getContentAsNode(MediaType, String)
+   */
   public JsonNode getContentAsNode(final MediaType mediaType,
+                                   final ConversionPlan formPlan,
                                    final String rawContentType) throws IOException {
     if (bodyNode != null) {
       return bodyNode;
-    } else if (bodyObject != null) {
+    }
+
+    JsonNode node = getCachedContentAsNode(mediaType, rawContentType);
+    if (node != null) {
+      return node;
+    }
+
+    synchronized (this) {
+      // Double check, another thread may have done the conversion
+      node = getCachedContentAsNode(mediaType, rawContentType);
+      if (node == null) {
+        node = convert(mediaType, formPlan, rawContentType);
+        conversions = new Conversion(mediaType, rawContentType, node, conversions);
+      }
+      return node;
+    }
+  }
+
+  /**
+   * Get the content as tree node only if already available.
+   *
+   * @param mediaType      The media type of the content.
+   * @param rawContentType The raw content type of the body.
+   * @return The content as tree node or {@code null} if it has not been converted yet.
+   */
+  public JsonNode getCachedContentAsNode(final MediaType mediaType,
+                                         final String rawContentType) {
+    if (bodyNode != null) {
+      return bodyNode;
+    }
+
+    Conversion conversion = conversions;
+    if (conversion != null && bodyObject != null) {
+      // Java objects are converted regardless of the media type
+      return conversion.node;
+    }
+
+    for (; conversion != null; conversion = conversion.next) {
+      if (conversion.matches(mediaType, rawContentType)) {
+        return conversion.node;
+      }
+    }
+
+    return null;
+  }
+
+  private JsonNode convert(final MediaType mediaType,
+                           final ConversionPlan formPlan,
+                           final String rawContentType) throws IOException {
+    if (bodyObject != null) {
+      if (bodyObjectTokens != null) {
+        // Reuse the serialization made for a parser
+        try (JsonParser parser = bodyObjectTokens.asParser()) {
+          return parser.readValueAsTree();
+        }
+      }
       return TreeUtil.json.convertValue(bodyObject, JsonNode.class);
+    } else if (bodyBytes != null) {
+      return ContentConverter.convert(mediaType, formPlan, rawContentType, bodyBytes, bodyOffset, bodyLength);
+    } else if (bodyIs != null) {
+      return ContentConverter.convert(mediaType, formPlan, rawContentType, readStream(), null);
     } else {
-      return ContentConverter.convert(mediaType, rawContentType, bodyIs, bodyStr);
+      return ContentConverter.convert(mediaType, formPlan, rawContentType, null, bodyStr);
+    }
+  }
+
+  private static final class Conversion {
+    private final MediaType mediaType;
+    private final String rawContentType;
+    // Only XML, form and multipart conversions depend on the media type
+    private final boolean isMediaTypeKey;
+    private final JsonNode node;
+    private final Conversion next;
+
+    private Conversion(MediaType mediaType, String rawContentType, JsonNode node, Conversion next) {
+      String contentType = ContentType.getTypeOnly(rawContentType);
+
+      this.mediaType = mediaType;
+      this.rawContentType = rawContentType;
+      this.isMediaTypeKey = ContentType.isXml(contentType)
+        || ContentType.isFormUrlEncoded(contentType)
+        || ContentType.isMultipartFormData(contentType);
+      this.node = node;
+      this.next = next;
+    }
+
+    private boolean matches(MediaType mediaType, String rawContentType) {
+      return Objects.equals(this.rawContentType, rawContentType) && (!isMediaTypeKey || this.mediaType == mediaType);
     }
   }
 }
@@ -3,49 +3,84 @@ package org.openapi4j.operation.validator.model.impl;
 import org.openapi4j.core.util.MultiStringMap;
 import org.openapi4j.operation.validator.model.Request;
 
+import java.io.UnsupportedEncodingException;
 import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
 public class DefaultRequest implements Request {
-  private final String url;
+  private static final String URL_REQUIRED_ERR_MSG = "A URL is required";
+  private static final String PATH_REQUIRED_ERR_MSG = "A path is required";
+  private static final String METHOD_REQUIRED_ERR_MSG = "A method is required";
+  private static final String PATH_MALFORMED_ERR_MSG = "Malformed path '%s'";
+
+  private final Supplier<String> urlSupplier;
+  private final String rawPath;
   private final Method method;
-  private final String path;
   private final Map<String, String> cookies;
   private final Map<String, Collection<String>> headers;
   private final String query;
   private final Body body;
+  // URL derived values, computed on demand
+  private String url;
+  private String path;
 
-  private DefaultRequest(final String url,
+  private DefaultRequest(final Supplier<String> urlSupplier,
+                         final String rawPath,
                          final Method method,
                          final Map<String, String> cookies,
                          final Map<String, Collection<String>> headers,
                          final String query,
                          final Body body) {
 
-    this.url = requireNonNull(url, "A URL is required");
-    this.method = requireNonNull(method, "A method is required");
+    this.urlSupplier = urlSupplier;
+    this.rawPath = rawPath;
+    this.method = requireNonNull(method, METHOD_REQUIRED_ERR_MSG);
     this.cookies = requireNonNull(cookies);
     this.headers = requireNonNull(headers);
     this.query = query;
     this.body = body;
-    this.path = URI.create(url).getPath();
   }
 
   @Override
   public String getURL() {
+    if (url == null) {
+      url = (urlSupplier != null) ? urlSupplier.get() : rawPath;
+    }
     return url;
   }
 
   @Override
   public String getPath() {
+    if (path == null) {
+      path = (rawPath != null) ? decodePath(rawPath) : URI.create(getURL()).getPath();
+    }
     return path;
   }
 
+  private static String decodePath(final String rawPath) {
+    if (rawPath.indexOf('%') == -1) {
+      return rawPath;
+    }
+
+    try {
+      // '+' is not a space in path
+      return URLDecoder.decode(rawPath.replace("+", "%2B"), StandardCharsets.UTF_8.name());
+    } catch (UnsupportedEncodingException e) {
+      // UTF-8 is always supported
+      throw new IllegalStateException(e);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(String.format(PATH_MALFORMED_ERR_MSG, rawPath), e);
+    }
+  }
+
   @Override
   public Method getMethod() {
     return method;
@@ -80,8 +115,9 @@ public class DefaultRequest implements Request {
    * A builder for {@link DefaultRequest} construction.
    */
   public static final class Builder {
-    private final String url;
+    private final String rawPath;
     private final Method method;
+    private Supplier<String> url;
     private final Map<String, String> cookies;
     private final MultiStringMap<String> headers;
     private String query;
@@ -95,13 +131,43 @@ public class DefaultRequest implements Request {
      * @param method The HTTP method
      */
     public Builder(final String url, final Method method) {
-      this.url = requireNonNull(url, "A URL is required");
-      this.method = requireNonNull(method, "A method is required");
+      requireNonNull(url, URL_REQUIRED_ERR_MSG);
+      this.url = () -> url;
+      this.rawPath = null;
+      this.method = requireNonNull(method, METHOD_REQUIRED_ERR_MSG);
+
+      this.cookies = new HashMap<>();
+      this.headers = new MultiStringMap<>(false);
+    }
+
+    /**
+     * Creates a {@link DefaultRequest.Builder} with the given HTTP {@link Request.Method} and
+     * the path already split from the URL by the server, so the URL is not parsed.
+     * Headers are always treated as case insensitive.
+     *
+     * @param method  The HTTP method
+     * @param rawPath The HTTP path, without query string and not decoded
+     */
+    public Builder(final Method method, final String rawPath) {
+      this.rawPath = requireNonNull(rawPath, PATH_REQUIRED_ERR_MSG);
+      this.method = requireNonNull(method, METHOD_REQUIRED_ERR_MSG);
 
       this.cookies = new HashMap<>();
       this.headers = new MultiStringMap<>(false);
     }
 
+    /**
+     * Sets the URL of the request to this builder.
+     * The URL is built on demand only, the path is used if not set.
+     *
+     * @param url The HTTP URL request supplier
+     * @return This builder
+     */
+    public Builder url(final Supplier<String> url) {
+      this.url = url;
+      return this;
+    }
+
     /**
      * Adds cookies to this builder.
      *
@@ -190,6 +256,7 @@ public class DefaultRequest implements Request {
     public DefaultRequest build() {
       return new DefaultRequest(
         url,
+        rawPath,
         method,
         Collections.unmodifiableMap(cookies),
         headers.asUnmodifiableMap(),
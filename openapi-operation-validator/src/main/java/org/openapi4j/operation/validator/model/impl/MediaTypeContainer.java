@@ -3,11 +3,10 @@ package org.openapi4j.operation.validator.model.impl;
 import org.openapi4j.operation.validator.util.ContentType;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 public class MediaTypeContainer {
   private static final String TEXT_TYPE = "text";
-  private static final Pattern PLACEHOLDER_TYPE = Pattern.compile("^.+/\\*");
+  private static final String PLACEHOLDER_SUBTYPE = "/*";
 
   private final String contentType;
   private final String charset;
@@ -25,7 +24,29 @@ public class MediaTypeContainer {
   private MediaTypeContainer(String contentType, String charset) {
     this.contentType = contentType;
     this.charset = charset;
-    hasPlaceholder = PLACEHOLDER_TYPE.matcher(contentType).matches();
+    hasPlaceholder = contentType.length() > PLACEHOLDER_SUBTYPE.length() && contentType.endsWith(PLACEHOLDER_SUBTYPE);
+  }
+
+  /**
+   * @return The content type without parameters (i.e. charset).
+   */
+  public String getContentType() {
+    return contentType;
+  }
+
+  /**
+   * @return The major type of the content type (i.e. text for text/plain), {@code null} if there's no subtype.
+   */
+  public String getMajorType() {
+    int index = contentType.indexOf('/');
+    return index != -1 ? contentType.substring(0, index) : null;
+  }
+
+  /**
+   * @return {@code true} if the subtype is a wildcard (i.e. image/*).
+   */
+  public boolean hasPlaceholder() {
+    return hasPlaceholder;
   }
 
   public boolean match(MediaTypeContainer mediaTypeContainer) {
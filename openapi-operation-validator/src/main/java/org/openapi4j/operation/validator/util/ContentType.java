@@ -95,6 +95,16 @@ public final class ContentType {
     return null;
   }
 
+  /**
+   * @param contentType The given content type to check.
+   * @return The defined charset for the current content type.
+   * UTF-8 if none defined or not supported.
+   */
+  public static Charset getCharSetOrUtf8(String contentType) {
+    String charset = getCharSetOrNull(contentType);
+    return charset != null ? Charset.forName(charset) : StandardCharsets.UTF_8;
+  }
+
   public static String getTypeOnly(String contentType) {
     if (contentType == null) return null;
     final int endIndex = contentType.indexOf(';');
@@ -0,0 +1,133 @@
+package org.openapi4j.operation.validator.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache with least recently used eviction.
+ * <p>
+ * Entries are spread over segments, each one guarded by its own lock,
+ * so concurrent access from many threads does not contend on a single lock.
+ * Eviction is made per segment, so the LRU order is approximated across the whole cache.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+public class LruCache<K, V> {
+  private static final String MAX_SIZE_ERR_MSG = "Cache size must be positive.";
+  private static final int MAX_SEGMENTS = 16;
+
+  private final Segment<K, V>[] segments;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Creates a cache with the given maximum number of entries.
+   *
+   * @param maxSize The maximum number of entries.
+   */
+  public LruCache(int maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException(MAX_SIZE_ERR_MSG);
+    }
+
+    // Power of two number of segments, at most one per entry
+    int segmentCount = 1;
+    while (segmentCount < MAX_SEGMENTS && segmentCount * 2 <= maxSize) {
+      segmentCount *= 2;
+    }
+
+    // Generic array creation is not allowed, segments are only created below
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Segment<K, V>[] segmentArray = (Segment<K, V>[]) new Segment[segmentCount];
+    segments = segmentArray;
+    for (int i = 0; i < segmentCount; i++) {
+      int segmentSize = maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0);
+      segments[i] = new Segment<>(segmentSize);
+    }
+  }
+
+  /**
+   * @param key The key.
+   * @return The cached value or {@code null} if not found.
+   */
+  public V get(K key) {
+    Segment<K, V> segment = segmentFor(key);
+
+    V value;
+    synchronized (segment) {
+      value = segment.get(key);
+    }
+
+    if (value != null) {
+      hits.increment();
+    } else {
+      misses.increment();
+    }
+
+    return value;
+  }
+
+  /**
+   * Puts the given value, the least recently used entry of the segment is evicted if full.
+   *
+   * @param key   The key.
+   * @param value The value, must be non {@code null}.
+   */
+  public void put(K key, V value) {
+    Segment<K, V> segment = segmentFor(key);
+
+    synchronized (segment) {
+      segment.put(key, value);
+    }
+  }
+
+  /**
+   * @return The current number of entries.
+   */
+  public int size() {
+    int size = 0;
+    for (Segment<K, V> segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * @return The number of lookups which found a value.
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return The number of lookups which did not find a value.
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  private Segment<K, V> segmentFor(K key) {
+    int h = key.hashCode();
+    return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+  }
+
+  private static class Segment<K, V> extends LinkedHashMap<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    private final int maxSize;
+
+    private Segment(int maxSize) {
+      super(16, 0.75f, true);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+      return size() > maxSize;
+    }
+  }
+}
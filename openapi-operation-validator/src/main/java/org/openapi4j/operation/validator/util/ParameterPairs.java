@@ -0,0 +1,162 @@
+package org.openapi4j.operation.validator.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Array backed multi-valued map of raw parameters (i.e. query string or form URL encoded body).
+ * <p>
+ * Pairs are kept in their original order, duplicate values included.
+ * Lookups are linear, which is faster than hashing for the usual number of parameters.
+ */
+public class ParameterPairs {
+  private static final int DEFAULT_CAPACITY = 8;
+
+  private final boolean caseSensitive;
+  private String[] keys;
+  private String[] values;
+  private int size;
+
+  /**
+   * @param caseSensitive {@code true} if the keys are case sensitive.
+   */
+  public ParameterPairs(boolean caseSensitive) {
+    this.caseSensitive = caseSensitive;
+    keys = new String[DEFAULT_CAPACITY];
+    values = new String[DEFAULT_CAPACITY];
+  }
+
+  /**
+   * @return {@code true} if the keys are case sensitive, {@code false} otherwise.
+   */
+  public boolean isCaseSensitive() {
+    return caseSensitive;
+  }
+
+  /**
+   * Add the given pair after the existing ones.
+   *
+   * @param key   The key.
+   * @param value The value, can be {@code null}.
+   */
+  public void add(String key, String value) {
+    if (size == keys.length) {
+      keys = Arrays.copyOf(keys, size * 2);
+      values = Arrays.copyOf(values, size * 2);
+    }
+
+    keys[size] = key;
+    values[size] = value;
+    size++;
+  }
+
+  /**
+   * @param key The key.
+   * @return The values in their original order, or {@code null} if the key is not present.
+   */
+  public List<String> get(String key) {
+    List<String> result = null;
+    String first = null;
+    boolean found = false;
+
+    for (int i = 0; i < size; i++) {
+      if (matches(keys[i], key)) {
+        if (!found) {
+          first = values[i];
+          found = true;
+        } else {
+          if (result == null) {
+            result = new ArrayList<>();
+            result.add(first);
+          }
+          result.add(values[i]);
+        }
+      }
+    }
+
+    if (result != null) {
+      return result;
+    }
+    return found ? Collections.singletonList(first) : null;
+  }
+
+  /**
+   * @param key The key.
+   * @return {@code true} if the key is present.
+   */
+  public boolean containsKey(String key) {
+    return indexOf(key) != -1;
+  }
+
+  /**
+   * @param key The key.
+   * @return The index of the first pair of the key, {@code -1} if the key is not present.
+   */
+  public int indexOf(String key) {
+    for (int i = 0; i < size; i++) {
+      if (matches(keys[i], key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Remove all the pairs of the given key.
+   *
+   * @param key The key.
+   */
+  public void remove(String key) {
+    int newSize = 0;
+    for (int i = 0; i < size; i++) {
+      if (!matches(keys[i], key)) {
+        keys[newSize] = keys[i];
+        values[newSize] = values[i];
+        newSize++;
+      }
+    }
+
+    for (int i = newSize; i < size; i++) {
+      keys[i] = null;
+      values[i] = null;
+    }
+    size = newSize;
+  }
+
+  /**
+   * @return The number of pairs.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @param index The index of the pair.
+   * @return The key of the pair.
+   */
+  public String getKey(int index) {
+    checkIndex(index);
+    return keys[index];
+  }
+
+  /**
+   * @param index The index of the pair.
+   * @return The value of the pair.
+   */
+  public String getValue(int index) {
+    checkIndex(index);
+    return values[index];
+  }
+
+  private boolean matches(String pairKey, String key) {
+    return caseSensitive ? pairKey.equals(key) : pairKey.equalsIgnoreCase(key);
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+}
@@ -131,18 +131,34 @@ public class PathResolver {
     }
   }
 
-  public List<Pattern> buildPathPatterns(OAIContext context, List<Server> servers, String templatePath) {
-    List<Pattern> patterns = new ArrayList<>();
+  /**
+   * Resolves the base paths of the given servers with the context of the Document.
+   *
+   * @param context The context of the Document
+   * @param servers The servers of the Document, may be {@code null}.
+   * @return The resolved base paths, an empty base path if no server is defined.
+   */
+  public List<String> getResolvedBasePaths(OAIContext context, List<Server> servers) {
+    List<String> basePaths = new ArrayList<>();
 
     if (servers == null) {
-      patterns.add(buildPathPattern("", templatePath));
+      basePaths.add("");
     } else {
       for (Server server : servers) {
-        Pattern pattern = buildPathPattern(getResolvedPath(context, server.getUrl()), templatePath);
-        patterns.add(pattern);
+        basePaths.add(getResolvedPath(context, server.getUrl()));
       }
     }
 
+    return basePaths;
+  }
+
+  public List<Pattern> buildPathPatterns(OAIContext context, List<Server> servers, String templatePath) {
+    List<Pattern> patterns = new ArrayList<>();
+
+    for (String basePath : getResolvedBasePaths(context, servers)) {
+      patterns.add(buildPathPattern(basePath, templatePath));
+    }
+
     return patterns;
   }
 
@@ -0,0 +1,397 @@
+package org.openapi4j.operation.validator.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Segment based tree to resolve concrete paths against OAS path templates.
+ * <p>
+ * Templates are split on '/' and each segment is stored as a node of the tree.
+ * Resolution walks the request path segments, so the cost is proportional to
+ * the number of segments and not to the number of registered templates.
+ * <p>
+ * Precedence is deterministic, for each segment:<br/>
+ * 1. literal segments ({@code /users/me}),<br/>
+ * 2. mixed segments ({@code /users/{id}.json}),<br/>
+ * 3. fully templated segments ({@code /users/{id}}).<br/>
+ * If a branch fails in deeper segments, the next candidate is tried.
+ * <p>
+ * Base paths (i.e. from servers) are stored in a separate prefix index.
+ * A base path is stripped from the request path, the remainder is then matched against
+ * the templates which are shared by all base paths. Longest base paths are tried first.
+ * <p>
+ * Templates without parameter are also registered with literal base paths in a hash map
+ * which is checked first, so fixed paths are resolved with a single lookup.
+ * Paths which could also be routed from a longer base path are left to the tree.
+ *
+ * @param <T> The type of the values associated to the templates.
+ */
+public class PathRouter<T> {
+  private static final Pattern OAS_PATH_PARAMETERS_PATTERN = Pattern.compile("\\{[.;?*+]*([^{}.;?*+]+)[^}]*}");
+  private static final String PARAM_GROUP = "([^\\/]*)";
+  private static final char SEPARATOR = '/';
+  private static final String[] NO_PARAMS = new String[0];
+  private static final int[] NO_OFFSETS = new int[0];
+
+  private final Node<String> basePathRoot = new Node<>();
+  private final Node<T> root = new Node<>();
+  // Literal base paths, longest first
+  private final List<String> literalBasePaths = new ArrayList<>();
+  // Literal base path + literal template
+  private final Map<String, Match<T>> literalPaths = new HashMap<>();
+  private final Map<String, Integer> literalPathsBaseLengths = new HashMap<>();
+  private int maxParams;
+
+  /**
+   * Creates a router without base path.
+   */
+  public PathRouter() {
+    this(Collections.singletonList(""));
+  }
+
+  /**
+   * Creates a router with the given base paths.
+   *
+   * @param basePaths The resolved base paths, use an empty string for root.
+   */
+  public PathRouter(Collection<String> basePaths) {
+    for (String basePath : basePaths) {
+      Node<String> node = addSegments(basePathRoot, basePath, new ArrayList<>());
+      if (node.value == null) {
+        node.value = basePath;
+
+        if (isLiteral(basePath)) {
+          literalBasePaths.add(basePath);
+        }
+      }
+    }
+
+    literalBasePaths.sort((p1, p2) -> Integer.compare(p2.length(), p1.length()));
+  }
+
+  /**
+   * Register the given template path.
+   * If the template is already registered, the first associated value is kept.
+   *
+   * @param templatePath The OAS template path, relative to base paths.
+   * @param value        The value to associate with the template.
+   */
+  public void add(String templatePath, T value) {
+    List<String> paramNames = new ArrayList<>();
+    Node<T> node = addSegments(root, templatePath, paramNames);
+
+    if (node.value == null) {
+      node.value = value;
+      node.paramNames = paramNames.toArray(new String[0]);
+      maxParams = Math.max(maxParams, paramNames.size());
+
+      if (paramNames.isEmpty()) {
+        addLiteralPaths(templatePath, value);
+      }
+    }
+  }
+
+  /**
+   * Resolve the given concrete path.
+   *
+   * @param path The concrete path from the request, without query string.
+   * @return The match or {@code null} if the path is not found.
+   */
+  public Match<T> find(String path) {
+    if (path == null || path.isEmpty()) {
+      path = "/";
+    }
+
+    Match<T> match = literalPaths.get(path);
+    if (match != null) {
+      return match;
+    }
+
+    // Offsets are kept by the match, no buffer is needed without parameter
+    int[] offsets = maxParams == 0 ? NO_OFFSETS : new int[maxParams * 2];
+    return findBasePath(basePathRoot, path, 0, offsets);
+  }
+
+  private void addLiteralPaths(String templatePath, T value) {
+    for (String basePath : literalBasePaths) {
+      String path = basePath + templatePath;
+      if (hasLongerBasePath(basePathRoot, path, 0, basePath.length())) {
+        // The tree tries the longer base path first, which may match another template
+        continue;
+      }
+
+      Integer previousLength = literalPathsBaseLengths.get(path);
+
+      // Keep consistent with the tree, longest base paths first
+      if (previousLength == null || previousLength < basePath.length()) {
+        literalPaths.put(path, new Match<>(value, path, NO_PARAMS, NO_OFFSETS));
+        literalPathsBaseLengths.put(path, basePath.length());
+      }
+    }
+  }
+
+  /**
+   * @return {@code true} if a base path ending after the given index matches the beginning of the path.
+   */
+  private boolean hasLongerBasePath(Node<String> node, String path, int start, int baseEnd) {
+    int end = path.indexOf(SEPARATOR, start);
+    boolean last = end == -1;
+    if (last) end = path.length();
+
+    if (hasLongerBasePathNext(node.literals.get(path.substring(start, end)), path, end, last, baseEnd)) {
+      return true;
+    }
+
+    for (Node<String> mixed : node.mixed.values()) {
+      if (mixed.pattern.matcher(path).region(start, end).matches()
+        && hasLongerBasePathNext(mixed, path, end, last, baseEnd)) {
+        return true;
+      }
+    }
+
+    return hasLongerBasePathNext(node.param, path, end, last, baseEnd);
+  }
+
+  private boolean hasLongerBasePathNext(Node<String> node, String path, int end, boolean last, int baseEnd) {
+    if (node == null) return false;
+    if (node.value != null && end > baseEnd) return true;
+    return !last && hasLongerBasePath(node, path, end + 1, baseEnd);
+  }
+
+  private boolean isLiteral(String path) {
+    return !OAS_PATH_PARAMETERS_PATTERN.matcher(path).find();
+  }
+
+  private <V> Node<V> addSegments(Node<V> from, String templatePath, List<String> paramNames) {
+    Node<V> node = from;
+
+    int start = 0;
+    while (true) {
+      int end = templatePath.indexOf(SEPARATOR, start);
+      if (end == -1) end = templatePath.length();
+
+      node = node.addChild(templatePath.substring(start, end), paramNames);
+
+      if (end == templatePath.length()) break;
+      start = end + 1;
+    }
+
+    return node;
+  }
+
+  private Match<T> findBasePath(Node<String> node, String path, int start, int[] offsets) {
+    int end = path.indexOf(SEPARATOR, start);
+    boolean last = end == -1;
+    if (last) end = path.length();
+
+    Match<T> result = findBasePathNext(node.literals.get(path.substring(start, end)), path, end, last, offsets);
+    if (result != null) return result;
+
+    for (Node<String> mixed : node.mixed.values()) {
+      if (mixed.pattern.matcher(path).region(start, end).matches()) {
+        result = findBasePathNext(mixed, path, end, last, offsets);
+        if (result != null) return result;
+      }
+    }
+
+    return findBasePathNext(node.param, path, end, last, offsets);
+  }
+
+  private Match<T> findBasePathNext(Node<String> node, String path, int end, boolean last, int[] offsets) {
+    if (node == null) return null;
+
+    // Longest base paths first
+    if (!last) {
+      Match<T> result = findBasePath(node, path, end + 1, offsets);
+      if (result != null) return result;
+    }
+
+    if (node.value != null) {
+      // Base path is stripped, match the remainder from the separator
+      Node<T> templateNode = find(root, path, end, offsets, 0);
+      if (templateNode != null) {
+        return new Match<>(templateNode.value, path, templateNode.paramNames, offsets);
+      }
+    }
+
+    return null;
+  }
+
+  private Node<T> find(Node<T> node, String path, int start, int[] offsets, int offsetIdx) {
+    int end = path.indexOf(SEPARATOR, start);
+    boolean last = end == -1;
+    if (last) end = path.length();
+
+    // Literal
+    Node<T> child = node.literals.get(path.substring(start, end));
+    Node<T> result = findNext(child, path, end, last, offsets, offsetIdx);
+    if (result != null) return result;
+
+    // Mixed
+    for (Node<T> mixed : node.mixed.values()) {
+      Matcher matcher = mixed.pattern.matcher(path).region(start, end);
+      if (matcher.matches()) {
+        int idx = offsetIdx;
+        for (int i = 1; i <= matcher.groupCount(); i++) {
+          offsets[idx++] = matcher.start(i);
+          offsets[idx++] = matcher.end(i);
+        }
+        result = findNext(mixed, path, end, last, offsets, idx);
+        if (result != null) return result;
+      }
+    }
+
+    // Parameter
+    if (node.param != null) {
+      offsets[offsetIdx] = start;
+      offsets[offsetIdx + 1] = end;
+      return findNext(node.param, path, end, last, offsets, offsetIdx + 2);
+    }
+
+    return null;
+  }
+
+  private Node<T> findNext(Node<T> node, String path, int end, boolean last, int[] offsets, int offsetIdx) {
+    if (node == null) return null;
+
+    if (last) {
+      return node.value != null ? node : null;
+    }
+
+    return find(node, path, end + 1, offsets, offsetIdx);
+  }
+
+  /**
+   * The result of a path resolution.
+   * Parameter values are given as offsets in the concrete path to avoid further matching.
+   *
+   * @param <T> The type of the value associated to the template.
+   */
+  public static class Match<T> {
+    private final T value;
+    private final String path;
+    private final String[] paramNames;
+    // begin & end indexes for each parameter, may be longer than needed
+    private final int[] offsets;
+
+    private Match(T value, String path, String[] paramNames, int[] offsets) {
+      this.value = value;
+      this.path = path;
+      this.paramNames = paramNames;
+      this.offsets = offsets;
+    }
+
+    /**
+     * @return The value associated to the matched template.
+     */
+    public T getValue() {
+      return value;
+    }
+
+    /**
+     * @return The concrete path.
+     */
+    public String getPath() {
+      return path;
+    }
+
+    /**
+     * @param paramName The parameter name.
+     * @return The index of the parameter, {@code -1} if the parameter is not bound to the template.
+     */
+    public int getParameterIndex(String paramName) {
+      for (int i = 0; i < paramNames.length; i++) {
+        if (paramNames[i].equals(paramName)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * @param index The index of the parameter.
+     * @return The begin index (inclusive) of the parameter value in the concrete path.
+     */
+    public int getBeginIndex(int index) {
+      return offsets[index * 2];
+    }
+
+    /**
+     * @param index The index of the parameter.
+     * @return The end index (exclusive) of the parameter value in the concrete path.
+     */
+    public int getEndIndex(int index) {
+      return offsets[index * 2 + 1];
+    }
+
+    /**
+     * @return The raw parameter values from the concrete path, mapped by their names.
+     */
+    public Map<String, String> getParameters() {
+      if (paramNames.length == 0) {
+        return Collections.emptyMap();
+      }
+
+      Map<String, String> parameters = new HashMap<>();
+      for (int i = 0; i < paramNames.length; i++) {
+        parameters.put(paramNames[i], path.substring(getBeginIndex(i), getEndIndex(i)));
+      }
+      return parameters;
+    }
+  }
+
+  private static class Node<T> {
+    private final Map<String, Node<T>> literals = new HashMap<>();
+    private final Map<String, Node<T>> mixed = new LinkedHashMap<>();
+    private Node<T> param;
+    private Pattern pattern;
+    private T value;
+    private String[] paramNames;
+
+    private Node<T> addChild(String segment, List<String> paramNames) {
+      Matcher matcher = OAS_PATH_PARAMETERS_PATTERN.matcher(segment);
+
+      if (!matcher.find()) {
+        return literals.computeIfAbsent(segment, k -> new Node<>());
+      }
+
+      if (matcher.start() == 0 && matcher.end() == segment.length()) {
+        paramNames.add(matcher.group(1));
+        if (param == null) {
+          param = new Node<>();
+        }
+        return param;
+      }
+
+      // Mixed segment, build regular expression for this segment only
+      StringBuilder regex = new StringBuilder();
+      int lastMatchEnd = 0;
+      do {
+        appendConstant(regex, segment, lastMatchEnd, matcher.start());
+        regex.append(PARAM_GROUP);
+        paramNames.add(matcher.group(1));
+        lastMatchEnd = matcher.end();
+      } while (matcher.find());
+      appendConstant(regex, segment, lastMatchEnd, segment.length());
+
+      return mixed.computeIfAbsent(regex.toString(), k -> {
+        Node<T> node = new Node<>();
+        node.pattern = Pattern.compile(k);
+        return node;
+      });
+    }
+
+    private void appendConstant(StringBuilder regex, String segment, int beginIndex, int endIndex) {
+      if (beginIndex != endIndex) {
+        regex.append(Pattern.quote(segment.substring(beginIndex, endIndex)));
+      }
+    }
+  }
+}
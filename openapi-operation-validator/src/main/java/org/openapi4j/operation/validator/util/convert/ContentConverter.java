@@ -1,5 +1,6 @@
 package org.openapi4j.operation.validator.util.convert;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.openapi4j.core.util.IOUtil;
@@ -8,8 +9,10 @@ import org.openapi4j.operation.validator.util.ContentType;
 import org.openapi4j.parser.model.v3.MediaType;
 import org.openapi4j.parser.model.v3.Schema;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -24,39 +27,113 @@ public final class ContentConverter {
                                  final InputStream is,
                                  final String str) throws IOException {
 
+    return convert(mediaType, null, rawContentType, is, str);
+  }
+
+  /**
+   * Convert the content with the conversion plan of form data already compiled from the media type.
+   *
+   * @param mediaType      The media type of the content.
+   * @param formPlan       The conversion plan of form data (x-www-form-urlencoded or multipart), compiled on demand if {@code null}.
+   * @param rawContentType The raw content type of the content.
+   * @param is             The content as stream, or {@code null}.
+   * @param str            The content as string, if no stream is given.
+   * @return The content as tree node.
+   * @throws IOException When the content can't be converted.
+   */
+  public static JsonNode convert(final MediaType mediaType,
+                                 final ConversionPlan formPlan,
+                                 final String rawContentType,
+                                 final InputStream is,
+                                 final String str) throws IOException {
+
     String contentType = ContentType.getTypeOnly(rawContentType);
 
     if (ContentType.isJson(contentType)) {
       return is != null ? jsonToNode(is) : jsonToNode(str);
     } else if (ContentType.isXml(contentType)) {
-      return is != null ? xmlToNode(mediaType.getSchema(), is) : xmlToNode(mediaType.getSchema(), str);
+      return is != null ? xmlToNode(mediaType.getSchema(), rawContentType, is) : xmlToNode(mediaType.getSchema(), str);
     } else if (ContentType.isFormUrlEncoded(contentType)) {
-      return is != null ? formUrlEncodedToNode(mediaType, rawContentType, is) : formUrlEncodedToNode(mediaType, rawContentType, str);
+      ConversionPlan plan = formPlan != null ? formPlan : ConversionPlan.forForm(mediaType);
+      return is != null ? formUrlEncodedToNode(plan, rawContentType, is) : formUrlEncodedToNode(plan, rawContentType, str);
     } else if (ContentType.isMultipartFormData(contentType)) {
-      return is != null ? multipartToNode(mediaType, rawContentType, is) : multipartToNode(mediaType, rawContentType, str);
+      ConversionPlan plan = formPlan != null ? formPlan : ConversionPlan.forForm(mediaType);
+      return is != null ? multipartToNode(mediaType, plan, rawContentType, is) : multipartToNode(mediaType, plan, rawContentType, str);
     } else { // UNKNOWN
       return is != null ? textToNode(is) : textToNode(str);
     }
   }
 
-  private static JsonNode formUrlEncodedToNode(final MediaType mediaType, final String rawContentType, final InputStream content) throws IOException {
+  public static JsonNode convert(final MediaType mediaType,
+                                 final String rawContentType,
+                                 final byte[] content,
+                                 final int offset,
+                                 final int length) throws IOException {
+
+    return convert(mediaType, null, rawContentType, content, offset, length);
+  }
+
+  /**
+   * Convert the content with the conversion plan of form data already compiled from the media type.
+   *
+   * @param mediaType      The media type of the content.
+   * @param formPlan       The conversion plan of form data (x-www-form-urlencoded or multipart), compiled on demand if {@code null}.
+   * @param rawContentType The raw content type of the content.
+   * @param content        The content bytes.
+   * @param offset         The offset of the content in the array.
+   * @param length         The length of the content.
+   * @return The content as tree node.
+   * @throws IOException When the content can't be converted.
+   */
+  public static JsonNode convert(final MediaType mediaType,
+                                 final ConversionPlan formPlan,
+                                 final String rawContentType,
+                                 final byte[] content,
+                                 final int offset,
+                                 final int length) throws IOException {
+
+    String contentType = ContentType.getTypeOnly(rawContentType);
+
+    if (ContentType.isMultipartFormData(contentType)) {
+      ConversionPlan plan = formPlan != null ? formPlan : ConversionPlan.forForm(mediaType);
+      return multipartToNode(mediaType, plan, rawContentType, content, offset, length);
+    } else if (ContentType.isXml(contentType)) {
+      // Decoded while parsing
+      return xmlToNode(mediaType.getSchema(), rawContentType, new ByteArrayInputStream(content, offset, length));
+    }
+
+    Charset charset = ContentType.getCharSetOrUtf8(rawContentType);
+    if (ContentType.isJson(contentType) && StandardCharsets.UTF_8.equals(charset)) {
+      // Parse UTF-8 bytes directly, no decode step
+      return jsonToNode(content, offset, length);
+    }
+
+    return convert(mediaType, formPlan, rawContentType, null, new String(content, offset, length, charset));
+  }
+
+  private static JsonNode formUrlEncodedToNode(final ConversionPlan plan, final String rawContentType, final InputStream content) throws IOException {
     String encoding = ContentType.getCharSet(rawContentType);
-    return FormUrlConverter.instance().convert(mediaType, content, encoding);
+    return FormUrlConverter.instance().convert(plan, content, encoding);
   }
 
-  private static JsonNode formUrlEncodedToNode(final MediaType mediaType, final String rawContentType, final String content) {
+  private static JsonNode formUrlEncodedToNode(final ConversionPlan plan, final String rawContentType, final String content) {
     String encoding = ContentType.getCharSet(rawContentType);
-    return FormUrlConverter.instance().convert(mediaType, content, encoding);
+    return FormUrlConverter.instance().convert(plan, content, encoding);
   }
 
-  private static JsonNode multipartToNode(final MediaType mediaType, final String rawContentType, InputStream content) throws IOException {
+  private static JsonNode multipartToNode(final MediaType mediaType, final ConversionPlan plan, final String rawContentType, InputStream content) throws IOException {
     String encoding = ContentType.getCharSet(rawContentType);
-    return MultipartConverter.instance().convert(mediaType, content, rawContentType, encoding);
+    return MultipartConverter.instance().convert(mediaType, plan, content, rawContentType, encoding);
   }
 
-  private static JsonNode multipartToNode(final MediaType mediaType, final String rawContentType, final String content) throws IOException {
+  private static JsonNode multipartToNode(final MediaType mediaType, final ConversionPlan plan, final String rawContentType, final byte[] content, final int offset, final int length) throws IOException {
     String encoding = ContentType.getCharSet(rawContentType);
-    return MultipartConverter.instance().convert(mediaType, content, rawContentType, encoding);
+    return MultipartConverter.instance().convert(mediaType, plan, content, offset, length, rawContentType, encoding);
+  }
+
+  private static JsonNode multipartToNode(final MediaType mediaType, final ConversionPlan plan, final String rawContentType, final String content) throws IOException {
+    String encoding = ContentType.getCharSet(rawContentType);
+    return MultipartConverter.instance().convert(mediaType, plan, content, rawContentType, encoding);
   }
 
   private static JsonNode jsonToNode(InputStream content) throws IOException {
@@ -67,11 +144,18 @@ public final class ContentConverter {
     return TreeUtil.json.readTree(content);
   }
 
-  private static JsonNode xmlToNode(final Schema schema, InputStream content) throws IOException {
-    return XmlConverter.instance().convert(schema, IOUtil.toString(content, StandardCharsets.UTF_8.name()));
+  private static JsonNode jsonToNode(byte[] content, int offset, int length) throws IOException {
+    try (JsonParser parser = TreeUtil.json.getFactory().createParser(content, offset, length)) {
+      return TreeUtil.json.readTree(parser);
+    }
+  }
+
+  private static JsonNode xmlToNode(final Schema schema, final String rawContentType, InputStream content) throws IOException {
+    String encoding = ContentType.getCharSet(rawContentType);
+    return XmlConverter.instance().convert(schema, content, encoding);
   }
 
-  private static JsonNode xmlToNode(final Schema schema, String content) {
+  private static JsonNode xmlToNode(final Schema schema, String content) throws IOException {
     return XmlConverter.instance().convert(schema, content);
   }
 
@@ -0,0 +1,233 @@
+package org.openapi4j.operation.validator.util.convert;
+
+import org.openapi4j.parser.model.OpenApiSchema;
+import org.openapi4j.parser.model.v3.AbsParameter;
+import org.openapi4j.parser.model.v3.EncodingProperty;
+import org.openapi4j.parser.model.v3.MediaType;
+import org.openapi4j.parser.model.v3.Parameter;
+import org.openapi4j.parser.model.v3.Schema;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Immutable conversion plan of the parameters from the same location.
+ * <p/>
+ * Style & explode defaults and schema types are resolved once from the specification,
+ * so conversion neither looks up style names, deduces types nor modifies the specification model.
+ */
+public final class ConversionPlan {
+  enum Style {
+    SIMPLE,
+    LABEL,
+    MATRIX,
+    FORM,
+    SPACE_DELIMITED,
+    PIPE_DELIMITED,
+    DEEP_OBJECT,
+    CONTENT
+  }
+
+  private final Entry[] entries;
+  // Types of the whole content schema, form data only
+  private final SchemaType contentType;
+
+  private ConversionPlan(final Entry[] entries, final SchemaType contentType) {
+    this.entries = entries;
+    this.contentType = contentType;
+  }
+
+  /**
+   * Compile the conversion plan of path parameters.
+   *
+   * @param specParameters The path parameters from specification.
+   * @return The conversion plan.
+   */
+  public static <M extends OpenApiSchema<M>> ConversionPlan forPath(final Map<String, AbsParameter<M>> specParameters) {
+    return new ConversionPlan(compile(specParameters, Style.SIMPLE), null);
+  }
+
+  /**
+   * Compile the conversion plan of query parameters.
+   *
+   * @param specParameters The query parameters from specification.
+   * @return The conversion plan.
+   */
+  public static <M extends OpenApiSchema<M>> ConversionPlan forQuery(final Map<String, AbsParameter<M>> specParameters) {
+    return new ConversionPlan(compile(specParameters, Style.FORM), null);
+  }
+
+  /**
+   * Compile the conversion plan of header parameters.
+   *
+   * @param specParameters The header parameters from specification.
+   * @return The conversion plan.
+   */
+  public static <M extends OpenApiSchema<M>> ConversionPlan forHeaders(final Map<String, AbsParameter<M>> specParameters) {
+    return new ConversionPlan(compile(specParameters, Style.SIMPLE), null);
+  }
+
+  /**
+   * Compile the conversion plan of cookie parameters.
+   *
+   * @param specParameters The cookie parameters from specification.
+   * @return The conversion plan.
+   */
+  public static <M extends OpenApiSchema<M>> ConversionPlan forCookies(final Map<String, AbsParameter<M>> specParameters) {
+    return new ConversionPlan(compile(specParameters, Style.FORM), null);
+  }
+
+  /**
+   * Compile the conversion plan of the properties of form data (x-www-form-urlencoded or multipart) content.
+   * Properties are read from the schema of the media type, their style from its encodings.
+   *
+   * @param mediaType The media type from specification.
+   * @return The conversion plan.
+   */
+  public static ConversionPlan forForm(final MediaType mediaType) {
+    Schema schema = mediaType.getSchema();
+    if (schema == null || schema.getProperties() == null) {
+      return new ConversionPlan(new Entry[0], SchemaType.of(schema));
+    }
+
+    Map<String, EncodingProperty> encodings
+      = mediaType.getEncodings() != null
+      ? mediaType.getEncodings()
+      : Collections.emptyMap();
+
+    Map<String, AbsParameter<Parameter>> specParameters = new HashMap<>();
+    for (Map.Entry<String, Schema> propEntry : schema.getProperties().entrySet()) {
+      String propName = propEntry.getKey();
+
+      specParameters.put(
+        propName,
+        createFormParameter(encodings.get(propName), propName, propEntry.getValue()));
+    }
+
+    return new ConversionPlan(compile(specParameters, Style.FORM), SchemaType.of(schema));
+  }
+
+  int size() {
+    return entries.length;
+  }
+
+  Entry get(int index) {
+    return entries[index];
+  }
+
+  /**
+   * @return The types of the content schema or {@code null} if this is not a plan of form data.
+   */
+  SchemaType getContentType() {
+    return contentType;
+  }
+
+  private static <M extends OpenApiSchema<M>> Entry[] compile(final Map<String, AbsParameter<M>> specParameters,
+                                                               final Style defaultStyle) {
+
+    Entry[] entries = new Entry[specParameters.size()];
+
+    int i = 0;
+    for (Map.Entry<String, AbsParameter<M>> paramEntry : specParameters.entrySet()) {
+      entries[i++] = new Entry(paramEntry.getKey(), paramEntry.getValue(), defaultStyle);
+    }
+
+    return entries;
+  }
+
+  private static AbsParameter<Parameter> createFormParameter(final EncodingProperty encodingProperty,
+                                                            final String propName,
+                                                            final Schema schema) {
+
+    Parameter param = new Parameter().setName(propName);
+    param.setSchema(schema);
+
+    if (encodingProperty != null) {
+      param
+        .setStyle(encodingProperty.getStyle())
+        .setExplode(encodingProperty.getExplode());
+
+      if (encodingProperty.getContentType() != null) {
+        param.setContentMediaType(encodingProperty.getContentType(), new MediaType().setSchema(schema));
+        param.setSchema(null); // reset schema
+      }
+    }
+
+    return param;
+  }
+
+  private static Style getStyle(final String style, final Style defaultStyle) {
+    if (style == null) {
+      return defaultStyle;
+    }
+
+    switch (style) {
+      case "simple":
+        return Style.SIMPLE;
+      case "label":
+        return Style.LABEL;
+      case "matrix":
+        return Style.MATRIX;
+      case "form":
+        return Style.FORM;
+      case "spaceDelimited":
+        return Style.SPACE_DELIMITED;
+      case "pipeDelimited":
+        return Style.PIPE_DELIMITED;
+      case "deepObject":
+        return Style.DEEP_OBJECT;
+      default:
+        return defaultStyle;
+    }
+  }
+
+  static final class Entry {
+    final String name;
+    final Style style;
+    // Resolved copy of the specification parameter
+    final AbsParameter<Parameter> param;
+    // First media type of content based parameter
+    final String contentType;
+    final MediaType mediaType;
+    // Types of the parameter schema, null for content based parameter
+    final SchemaType type;
+
+    private Entry(final String name, final AbsParameter<?> specParam, final Style defaultStyle) {
+      this.name = name;
+
+      if (specParam.getSchema() != null) {
+        style = getStyle(specParam.getStyle(), defaultStyle);
+        contentType = null;
+        mediaType = null;
+        type = SchemaType.of(specParam.getSchema());
+      } else {
+        style = Style.CONTENT;
+        type = null;
+
+        Map<String, MediaType> mediaTypes = specParam.getContentMediaTypes();
+        Iterator<Map.Entry<String, MediaType>> iterator
+          = mediaTypes != null ? mediaTypes.entrySet().iterator() : null;
+
+        if (iterator != null && iterator.hasNext()) {
+          Map.Entry<String, MediaType> mediaTypeEntry = iterator.next();
+          contentType = mediaTypeEntry.getKey();
+          mediaType = mediaTypeEntry.getValue();
+        } else {
+          contentType = null;
+          mediaType = null;
+        }
+      }
+
+      param = new Parameter()
+        .setName(name)
+        .setSchema(specParam.getSchema())
+        .setStyle(specParam.getStyle())
+        .setRequired(specParam.getRequired())
+        // explode true is default for form style only
+        .setExplode(specParam.getExplode() != null ? specParam.getExplode() : style == Style.FORM)
+        .setContentMediaTypes(specParam.getContentMediaTypes());
+    }
+  }
+}
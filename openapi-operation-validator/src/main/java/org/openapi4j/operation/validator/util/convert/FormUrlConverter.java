@@ -2,9 +2,8 @@ package org.openapi4j.operation.validator.util.convert;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.openapi4j.core.util.IOUtil;
-import org.openapi4j.core.util.MultiStringMap;
-import org.openapi4j.core.util.StringUtil;
 import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.operation.validator.util.ParameterPairs;
 import org.openapi4j.operation.validator.util.convert.style.DeepObjectStyleConverter;
 import org.openapi4j.operation.validator.util.convert.style.FormStyleConverter;
 import org.openapi4j.operation.validator.util.convert.style.PipeDelimitedStyleConverter;
@@ -21,11 +20,9 @@ import java.util.*;
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_STRING;
 
 class FormUrlConverter {
-  private static final String SPACE_DELIMITED = "spaceDelimited";
-  private static final String PIPE_DELIMITED = "pipeDelimited";
-  private static final String DEEP_OBJECT = "deepObject";
-
   private static final FormUrlConverter INSTANCE = new FormUrlConverter();
+  // Remaining & unknown properties are kept as string
+  private static final SchemaType DEFAULT_TYPE = SchemaType.of(new Schema().setType(TYPE_STRING));
 
   public static FormUrlConverter instance() {
     return INSTANCE;
@@ -34,18 +31,16 @@ class FormUrlConverter {
   private FormUrlConverter() {
   }
 
-  private final Map<MediaType, Map<String, AbsParameter<Parameter>>> mediaTypesCache = new HashMap<>();
-
-  JsonNode convert(final MediaType mediaType, final InputStream body, String encoding) throws IOException {
-    return convert(mediaType, IOUtil.toString(body, encoding), encoding);
+  JsonNode convert(final ConversionPlan plan, final InputStream body, String encoding) throws IOException {
+    return convert(plan, IOUtil.toString(body, encoding), encoding);
   }
 
-  JsonNode convert(final MediaType mediaType, final String body, final String encoding) {
-    Map<String, JsonNode> params = convert(getParameters(mediaType), body, true, encoding);
+  JsonNode convert(final ConversionPlan plan, final String body, final String encoding) {
+    Map<String, JsonNode> params = convert(plan, body, true, encoding);
     return TreeUtil.json.valueToTree(params);
   }
 
-  Map<String, JsonNode> convert(final Map<String, AbsParameter<Parameter>> specParameters,
+  Map<String, JsonNode> convert(final ConversionPlan plan,
                                 final String body,
                                 final boolean caseSensitive,
                                 final String encoding) {
@@ -56,35 +51,33 @@ class FormUrlConverter {
       return mappedValues;
     }
 
-    MultiStringMap<String> paramPairs = getParameterPairs(body, caseSensitive, encoding);
+    ParameterPairs paramPairs = getParameterPairs(body, caseSensitive, encoding);
     List<String> visitedParams = new ArrayList<>();
 
-    for (Map.Entry<String, AbsParameter<Parameter>> paramEntry : specParameters.entrySet()) {
-      final String specParamName = paramEntry.getKey();
-      final AbsParameter<Parameter> specParam = paramEntry.getValue();
+    for (int i = 0; i < plan.size(); i++) {
+      final ConversionPlan.Entry entry = plan.get(i);
       final JsonNode convertedValue;
 
-      if (specParam.getSchema() != null) {
-        final String style = specParam.getStyle();
-
-        if (SPACE_DELIMITED.equals(style)) {
-          convertedValue = SpaceDelimitedStyleConverter.instance().convert(specParam, specParamName, paramPairs, visitedParams);
-        } else if (PIPE_DELIMITED.equals(style)) {
-          convertedValue = PipeDelimitedStyleConverter.instance().convert(specParam, specParamName, paramPairs, visitedParams);
-        } else if (DEEP_OBJECT.equals(style)) {
-          convertedValue = DeepObjectStyleConverter.instance().convert(specParam, specParamName, paramPairs, visitedParams);
-        } else { // form is the default
-          if (specParam.getExplode() == null) { // explode true is default
-            specParam.setExplode(true);
-          }
-          convertedValue = FormStyleConverter.instance().convert(specParam, specParamName, paramPairs, visitedParams);
-        }
-      } else {
-        convertedValue = getValueFromContentType(specParam.getContentMediaTypes(), specParamName, paramPairs, visitedParams);
+      switch (entry.style) {
+        case CONTENT:
+          convertedValue = getValueFromContentType(entry, paramPairs, visitedParams);
+          break;
+        case SPACE_DELIMITED:
+          convertedValue = SpaceDelimitedStyleConverter.instance().convert(entry.param, entry.type, entry.name, paramPairs, visitedParams);
+          break;
+        case PIPE_DELIMITED:
+          convertedValue = PipeDelimitedStyleConverter.instance().convert(entry.param, entry.type, entry.name, paramPairs, visitedParams);
+          break;
+        case DEEP_OBJECT:
+          convertedValue = DeepObjectStyleConverter.instance().convert(entry.param, entry.type, entry.name, paramPairs, visitedParams);
+          break;
+        default: // form is the default
+          convertedValue = FormStyleConverter.instance().convert(entry.param, entry.type, entry.name, paramPairs, visitedParams);
+          break;
       }
 
       if (convertedValue != null) {
-        mappedValues.put(specParamName, convertedValue);
+        mappedValues.put(entry.name, convertedValue);
       }
     }
 
@@ -94,38 +87,66 @@ class FormUrlConverter {
     }
 
     // add remaining & unknown properties as string to the result
-    Schema defaultSchema = new Schema().setType(TYPE_STRING);
-    for (Map.Entry<String, Collection<String>> valueEntry : paramPairs.entrySet()) {
-      Collection<String> values = valueEntry.getValue();
+    for (int i = 0; i < paramPairs.size(); i++) {
+      String key = paramPairs.getKey(i);
 
-      JsonNode value = TypeConverter.instance().convertPrimitive(
-        defaultSchema,
-        values.iterator().next());
+      // First value only
+      if (paramPairs.indexOf(key) == i) {
+        JsonNode value = TypeConverter.instance().primitiveToNode(
+          DEFAULT_TYPE,
+          paramPairs.getValue(i));
 
-      mappedValues.put(valueEntry.getKey(), value);
+        mappedValues.put(key, value);
+      }
     }
 
     return mappedValues;
   }
 
-  private MultiStringMap<String> getParameterPairs(String value, boolean caseSensitive, String encoding) {
-    List<String> pairs = StringUtil.tokenize(value, "&", true, true);
-    MultiStringMap<String> result = new MultiStringMap<>(caseSensitive);
-
-    for (String pair : pairs) {
-      int idx = pair.indexOf('=');
-      if (idx == -1) {
-        result.put(decode(pair, encoding), null);
-      } else {
-        result.put(
-          decode(pair.substring(0, idx), encoding),
-          decode(pair.substring(idx + 1), encoding));
+  private ParameterPairs getParameterPairs(String value, boolean caseSensitive, String encoding) {
+    ParameterPairs result = new ParameterPairs(caseSensitive);
+
+    int length = value.length();
+    int start = 0;
+    while (start < length) {
+      int end = value.indexOf('&', start);
+      if (end == -1) end = length;
+
+      // Trim & ignore empty pairs
+      int pairStart = start;
+      int pairEnd = end;
+      while (pairStart < pairEnd && value.charAt(pairStart) <= ' ') pairStart++;
+      while (pairEnd > pairStart && value.charAt(pairEnd - 1) <= ' ') pairEnd--;
+
+      if (pairStart != pairEnd) {
+        int separator = value.indexOf('=', pairStart);
+        if (separator == -1 || separator >= pairEnd) {
+          result.add(decode(value, pairStart, pairEnd, encoding), null);
+        } else {
+          result.add(
+            decode(value, pairStart, separator, encoding),
+            decode(value, separator + 1, pairEnd, encoding));
+        }
       }
+
+      start = end + 1;
     }
 
     return result;
   }
 
+  private String decode(String value, int beginIndex, int endIndex, String encoding) {
+    for (int i = beginIndex; i < endIndex; i++) {
+      char c = value.charAt(i);
+      if (c == '%' || c == '+') {
+        return decode(value.substring(beginIndex, endIndex), encoding);
+      }
+    }
+
+    // Nothing to decode
+    return value.substring(beginIndex, endIndex);
+  }
+
   private String decode(String value, String encoding) {
     try {
       return URLDecoder.decode(value, encoding);
@@ -138,97 +159,29 @@ class FormUrlConverter {
     }
   }
 
-  private JsonNode getValueFromContentType(final Map<String, MediaType> mediaTypes,
-                                           final String paramName,
-                                           final MultiStringMap<String> paramPairs,
+  private JsonNode getValueFromContentType(final ConversionPlan.Entry entry,
+                                           final ParameterPairs paramPairs,
                                            final List<String> visitedParams) {
 
-    Collection<String> propValues = paramPairs.get(paramName);
+    Collection<String> propValues = paramPairs.get(entry.name);
     if (propValues == null) {
       return null;
     }
 
-    visitedParams.add(paramName);
-
-    if (mediaTypes != null) {
-      Optional<Map.Entry<String, MediaType>> entry = mediaTypes.entrySet().stream().findFirst();
-
-      if (entry.isPresent()) {
-        Map.Entry<String, MediaType> mediaType = entry.get();
+    visitedParams.add(entry.name);
 
-        try {
-          return ContentConverter.convert(
-            mediaType.getValue(),
-            mediaType.getKey(),
-            null,
-            propValues.stream().findFirst().orElse(null));
-        } catch (IOException e) {
-          return null;
-        }
+    if (entry.mediaType != null) {
+      try {
+        return ContentConverter.convert(
+          entry.mediaType,
+          entry.contentType,
+          null,
+          propValues.stream().findFirst().orElse(null));
+      } catch (IOException e) {
+        return null;
       }
     }
 
     return null;
   }
-
-  /**
-   * Transform media type to Map of Parameters to work with same structure for:
-   * - query
-   * - form-data
-   * - x-www-formurlencoded.
-   *
-   * @param mediaType The given meida type to transform.
-   * @return The Map of parameters.
-   */
-  private Map<String, AbsParameter<Parameter>> getParameters(final MediaType mediaType) {
-    // check cache
-    Map<String, AbsParameter<Parameter>> specParameters = mediaTypesCache.get(mediaType);
-    if (specParameters != null) {
-      return specParameters;
-    }
-
-    // Cache missed
-    Map<String, EncodingProperty> encodings
-      = mediaType.getEncodings() != null
-      ? mediaType.getEncodings()
-      : new HashMap<>();
-
-    specParameters = new HashMap<>();
-
-    for (Map.Entry<String, Schema> propEntry : mediaType.getSchema().getProperties().entrySet()) {
-      String propName = propEntry.getKey();
-
-      specParameters.put(
-        propName,
-        createParameter(encodings, propName, propEntry.getValue()));
-    }
-
-    // Add media type to cache
-    mediaTypesCache.put(mediaType, specParameters);
-
-    return specParameters;
-  }
-
-  private AbsParameter<Parameter> createParameter(final Map<String, EncodingProperty> encodings,
-                                                  final String propName,
-                                                  final Schema schema) {
-
-    EncodingProperty encodingProperty = encodings.get(propName);
-
-    Parameter param = new Parameter().setName(propName);
-    param.setSchema(schema);
-
-    if (encodingProperty != null) {
-      param
-        .setStyle(encodingProperty.getStyle())
-        .setExplode(encodingProperty.getExplode());
-
-      if (encodingProperty.getContentType() != null) {
-        param.setContentMediaType(encodingProperty.getContentType(), new MediaType().setSchema(schema));
-        param.setSchema(null); // reset schema
-      }
-    }
-
-    return param;
-  }
 }
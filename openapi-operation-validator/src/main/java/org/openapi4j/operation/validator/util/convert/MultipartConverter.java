@@ -13,6 +13,7 @@ import org.openapi4j.parser.model.v3.MediaType;
 import org.openapi4j.parser.model.v3.Schema;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
@@ -23,6 +24,10 @@ import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.*;
 class MultipartConverter {
   private static final MultipartConverter INSTANCE = new MultipartConverter();
 
+  private static final String PART_SIZE_ERR_MSG = "Part '%s' exceeds the maximum size of %d bytes.";
+  private static final String CONTENT_SIZE_ERR_MSG = "Multipart content exceeds the maximum size of %d bytes.";
+  private static final int MAX_BYTES_PER_CHAR = 4;
+
   private static final MapType MAP_TYPE = TreeUtil.json.getTypeFactory().constructMapType(
     HashMap.class,
     TreeUtil.json.getTypeFactory().constructType(String.class),
@@ -35,30 +40,68 @@ class MultipartConverter {
     return INSTANCE;
   }
 
-  JsonNode convert(final MediaType mediaType, final String body, final String rawContentType, final String encoding) throws IOException {
-    InputStream is = new ByteArrayInputStream(body.getBytes(encoding));
-    return convert(mediaType, is, rawContentType, encoding);
+  JsonNode convert(final MediaType mediaType,
+                   final ConversionPlan plan,
+                   final String body,
+                   final String rawContentType,
+                   final String encoding) throws IOException {
+
+    byte[] bytes = body.getBytes(encoding);
+    return convert(mediaType, plan, bytes, 0, bytes.length, rawContentType, encoding);
+  }
+
+  JsonNode convert(final MediaType mediaType,
+                   final ConversionPlan plan,
+                   final byte[] body,
+                   final int offset,
+                   final int length,
+                   final String rawContentType,
+                   final String encoding) throws IOException {
+
+    // Backed by the given array, no copy
+    return convert(mediaType, plan, new ByteArrayInputStream(body, offset, length), rawContentType, encoding);
   }
 
-  JsonNode convert(final MediaType mediaType, final InputStream body, final String rawContentType, final String encoding) throws IOException {
+  JsonNode convert(final MediaType mediaType,
+                   final ConversionPlan plan,
+                   final InputStream body,
+                   final String rawContentType,
+                   final String encoding) throws IOException {
+
     UploadContext requestContext = UPLOAD_CONTEXT_INSTANCE.create(body, rawContentType, encoding);
 
     ObjectNode result = JsonNodeFactory.instance.objectNode();
+    SchemaType schemaType = plan.getContentType();
+    long maxSize = getMaxSize(schemaType);
+    boolean isAdditionalAllowed = !Boolean.FALSE.equals(schemaType.getSchema().getAdditionalPropertiesAllowed());
+    long size = 0;
 
     try {
       FileItemIterator iterator = new FileUpload().getItemIterator(requestContext);
       while (iterator.hasNext()) {
         FileItemStream item = iterator.next();
         String name = item.getFieldName();
+        SchemaType propType = schemaType.getProperty(name);
+        // Unknown parts are bounded by the additional properties schema
+        long maxPartSize = getMaxPartSize(propType != null ? propType : schemaType.getAdditionalProperties());
+
+        PartInputStream partStream = new PartInputStream(item.openStream(), name, maxPartSize, maxSize, size);
 
-        if (item.isFormField()) {
-          JsonNode convertedValue = mapValue(result, mediaType, item, name, encoding);
+        if (propType == null && !isAdditionalAllowed) {
+          // Unknown part is not allowed, content is drained without being kept
+          addValue(result, name, JsonNodeFactory.instance.nullNode());
+        } else if (item.isFormField()) {
+          JsonNode convertedValue = mapValue(result, mediaType, propType, item.getContentType(), partStream, name, encoding);
           if (convertedValue != null) {
             addValue(result, name, convertedValue);
           }
-        } else { // Add file name only
+        } else { // Add file name only, content is not kept
           addValue(result, name, JsonNodeFactory.instance.textNode(item.getName()));
         }
+
+        // Count & check the remaining content of the part
+        partStream.close();
+        size += partStream.count;
       }
     } catch (FileUploadException ex) {
       throw new IOException(ex);
@@ -67,30 +110,43 @@ class MultipartConverter {
     return result;
   }
 
-  private JsonNode mapValue(ObjectNode result, MediaType mediaType, FileItemStream item, String name, String encoding) throws IOException {
-    Schema propSchema = mediaType.getSchema().getProperty(name);
-    String itemContentType = item.getContentType();
+  /**
+   * Map the value of a form field part.
+   * The content is read from the part stream, so all branches are bounded by the limit of the part.
+   */
+  private JsonNode mapValue(final ObjectNode result,
+                            final MediaType mediaType,
+                            final SchemaType propType,
+                            final String itemContentType,
+                            final InputStream content,
+                            final String name,
+                            final String encoding) throws IOException {
+
+    if (propType == null) {
+      // Unknown part, bounded by the additional properties schema
+      return JsonNodeFactory.instance.textNode(IOUtil.toString(content, encoding));
+    }
 
     if (itemContentType != null) {
-      final int checkResult = checkContentType(propSchema, mediaType.getEncoding(name), item);
+      final int checkResult = checkContentType(propType, mediaType.getEncoding(name), itemContentType);
       if (checkResult == -1) {
-        // content type mismatch
-        String content = IOUtil.toString(item.openStream(), encoding);
-        return JsonNodeFactory.instance.textNode(content);
+        // content type mismatch, value is kept as text
+        // Text can't be valid for other types, content is drained without being kept
+        return JsonNodeFactory.instance.textNode(isText(propType) ? IOUtil.toString(content, encoding) : "");
       } else if (checkResult == 0) {
         // Process with the given content type
-        String content = IOUtil.toString(item.openStream(), encoding);
+        String value = IOUtil.toString(content, encoding);
         try {
-          return ContentConverter.convert(new MediaType().setSchema(propSchema), itemContentType, null, content);
+          return ContentConverter.convert(new MediaType().setSchema(propType.getSchema()), itemContentType, null, value);
         } catch (IOException ex) {
           // content type mismatch
-          return JsonNodeFactory.instance.textNode(content);
+          return JsonNodeFactory.instance.textNode(value);
         }
       }
     }
 
     // Process as JSON
-    return convertToJsonNode(result, name, propSchema, item, encoding);
+    return convertToJsonNode(result, name, propType, content, encoding);
   }
 
   /**
@@ -100,8 +156,7 @@ class MultipartConverter {
    * 0: if content should be processed with the given content type<br/>
    * 1: if the content should be processed as JSON.<br/>
    */
-  private int checkContentType(Schema propSchema, EncodingProperty encProperty, FileItemStream item) {
-    String itemContentType = item.getContentType();
+  private int checkContentType(SchemaType propType, EncodingProperty encProperty, String itemContentType) {
     String specContentType = (encProperty != null && encProperty.getContentType() != null) ? encProperty.getContentType() : null;
 
     // Check given content type against spec content type
@@ -110,48 +165,113 @@ class MultipartConverter {
     }
 
     // Cheking by default value
-    switch (propSchema.getSupposedType()) {
-      case TYPE_OBJECT:
-        // for object - application/json
-        return itemContentType.equals("application/json") ? 1 : 0;
-      case TYPE_ARRAY:
-        // for array - defined based on the inner type
-        return checkContentType(propSchema.getItemsSchema(), encProperty, item);
-      case TYPE_STRING:
-        // for string with format being binary - application/octet-stream
-        if (FORMAT_BINARY.equals(propSchema.getFormat())) {
-          return itemContentType.equals("application/octet-stream") ? 1 : 0;
-        }
-      default:
-        // for other primitive types - text/plain
-        return itemContentType.equals("text/plain") ? 1 : 0;
+    if (TYPE_OBJECT.equals(propType.getType())) {
+      // for object - application/json
+      return itemContentType.equals("application/json") ? 1 : 0;
+    } else if (TYPE_ARRAY.equals(propType.getType())) {
+      // for array - defined based on the inner type
+      return propType.getItems() != null ? checkContentType(propType.getItems(), encProperty, itemContentType) : 0;
+    } else if (TYPE_STRING.equals(propType.getType()) && FORMAT_BINARY.equals(propType.getSchema().getFormat())) {
+      // for string with format being binary - application/octet-stream
+      return itemContentType.equals("application/octet-stream") ? 1 : 0;
     }
+
+    // for other primitive types - text/plain
+    return itemContentType.equals("text/plain") ? 1 : 0;
+  }
+
+  /**
+   * @return {@code true} if a text value may be valid for the property, items are checked for arrays.
+   */
+  private boolean isText(final SchemaType propType) {
+    SchemaType valueType
+      = (TYPE_ARRAY.equals(propType.getType()) && propType.getItems() != null)
+      ? propType.getItems()
+      : propType;
+
+    return valueType.getType() == null || TYPE_STRING.equals(valueType.getType());
   }
 
   private JsonNode convertToJsonNode(final ObjectNode result,
                                      final String name,
-                                     final Schema schema,
-                                     final FileItemStream item,
+                                     final SchemaType schemaType,
+                                     final InputStream content,
                                      final String encoding) throws IOException {
 
-    switch (schema.getSupposedType()) {
-      case TYPE_OBJECT:
-        Map<String, Object> jsonContent = TreeUtil.json.readValue(item.openStream(), MAP_TYPE);
-        return TypeConverter.instance().convertObject(schema, jsonContent);
-      case TYPE_ARRAY:
-        // Special case for arrays
-        // They can be referenced multiple times in different ways
-        JsonNode convertedValue = convertToJsonNode(result, name, schema.getItemsSchema(), item, encoding);
-        JsonNode previousValue = result.get(name);
-        if ((previousValue instanceof ArrayNode)) {
-          ((ArrayNode) previousValue).add(convertedValue);
-        } else {
-          result.set(name, JsonNodeFactory.instance.arrayNode().add(convertedValue));
+    if (TYPE_OBJECT.equals(schemaType.getType())) {
+      Map<String, Object> jsonContent = TreeUtil.json.readValue(content, MAP_TYPE);
+      return TypeConverter.instance().objectToNode(schemaType, jsonContent);
+    } else if (TYPE_ARRAY.equals(schemaType.getType()) && schemaType.getItems() != null) {
+      // Special case for arrays
+      // They can be referenced multiple times in different ways
+      JsonNode convertedValue = convertToJsonNode(result, name, schemaType.getItems(), content, encoding);
+      JsonNode previousValue = result.get(name);
+      if ((previousValue instanceof ArrayNode)) {
+        ((ArrayNode) previousValue).add(convertedValue);
+      } else {
+        result.set(name, JsonNodeFactory.instance.arrayNode().add(convertedValue));
+      }
+      return null;
+    }
+
+    return TypeConverter.instance().primitiveToNode(schemaType, IOUtil.toString(content, encoding));
+  }
+
+  /**
+   * Get the maximum size in bytes of a part from the schema.
+   * Binary strings are bounded by maxLength, other strings by maxLength encoded with 4 bytes per character.
+   *
+   * @return The maximum size or -1 if unbounded.
+   */
+  private long getMaxPartSize(final SchemaType schemaType) {
+    if (schemaType == null) {
+      return -1;
+    }
+
+    Schema schema = schemaType.getSchema();
+    if (TYPE_ARRAY.equals(schemaType.getType())) {
+      // Each item is sent in its own part
+      return getMaxPartSize(schemaType.getItems());
+    } else if (TYPE_STRING.equals(schemaType.getType()) && schema.getMaxLength() != null) {
+      return FORMAT_BINARY.equals(schema.getFormat())
+        ? schema.getMaxLength()
+        : schema.getMaxLength() * (long) MAX_BYTES_PER_CHAR;
+    }
+
+    return -1;
+  }
+
+  /**
+   * Get the maximum size in bytes of all parts from the schema.
+   * The content is bounded only if additional properties are not allowed and all properties are bounded.
+   *
+   * @return The maximum size or -1 if unbounded.
+   */
+  private long getMaxSize(final SchemaType schemaType) {
+    Schema schema = schemaType.getSchema();
+    if (schema.getProperties() == null
+      || schema.hasAdditionalProperties()
+      || !Boolean.FALSE.equals(schema.getAdditionalPropertiesAllowed())) {
+      return -1;
+    }
+
+    long maxSize = 0;
+    for (SchemaType propType : schemaType.getProperties().values()) {
+      long maxPartSize = getMaxPartSize(propType);
+      if (maxPartSize == -1) {
+        return -1;
+      }
+
+      if (TYPE_ARRAY.equals(propType.getType())) {
+        if (propType.getSchema().getMaxItems() == null) {
+          return -1;
         }
-        return null;
-      default:
-        return TypeConverter.instance().convertPrimitive(schema, IOUtil.toString(item.openStream(), encoding));
+        maxPartSize *= propType.getSchema().getMaxItems();
+      }
+      maxSize += maxPartSize;
     }
+
+    return maxSize;
   }
 
   private void addValue(ObjectNode result, String name, JsonNode value) {
@@ -210,4 +330,81 @@ class MultipartConverter {
       return body;
     }
   };
+
+  /**
+   * Counts the bytes read from a part and aborts as soon as a limit is exceeded.
+   */
+  private static final class PartInputStream extends FilterInputStream {
+    private final String name;
+    private final long maxPartSize;
+    private final long maxContentSize;
+    private final long previousContentSize;
+    private long count;
+    private boolean isClosed;
+
+    private PartInputStream(InputStream in, String name, long maxPartSize, long maxContentSize, long previousContentSize) {
+      super(in);
+      this.name = name;
+      this.maxPartSize = maxPartSize;
+      this.maxContentSize = maxContentSize;
+      this.previousContentSize = previousContentSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b != -1) {
+        count(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int read = super.read(b, off, len);
+      if (read > 0) {
+        count(read);
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = super.skip(n);
+      count(skipped);
+      return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (isClosed) {
+        return;
+      }
+
+      // Go through the remaining content to check the limits
+      byte[] buffer = new byte[4096];
+      while (read(buffer, 0, buffer.length) != -1) {
+        // Content is discarded
+      }
+
+      isClosed = true;
+      super.close();
+    }
+
+    private void count(long read) throws IOException {
+      count += read;
+
+      if (maxPartSize != -1 && count > maxPartSize) {
+        throw new IOException(String.format(PART_SIZE_ERR_MSG, name, maxPartSize));
+      }
+      if (maxContentSize != -1 && previousContentSize + count > maxContentSize) {
+        throw new IOException(String.format(CONTENT_SIZE_ERR_MSG, maxContentSize));
+      }
+    }
+  }
 }
@@ -3,19 +3,18 @@ package org.openapi4j.operation.validator.util.convert;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.openapi4j.operation.validator.util.PathRouter;
 import org.openapi4j.operation.validator.util.convert.style.LabelStyleConverter;
 import org.openapi4j.operation.validator.util.convert.style.MatrixStyleConverter;
 import org.openapi4j.operation.validator.util.convert.style.SimpleStyleConverter;
 import org.openapi4j.parser.model.OpenApiSchema;
 import org.openapi4j.parser.model.v3.AbsParameter;
-import org.openapi4j.parser.model.v3.MediaType;
 import org.openapi4j.parser.model.v3.Parameter;
 
 import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -76,9 +75,6 @@ import java.util.regex.Pattern;
  * <p>
  */
 public final class ParameterConverter {
-  private static final String LABEL = "label";
-  private static final String MATRIX = "matrix";
-
   private ParameterConverter() {
   }
 
@@ -86,9 +82,13 @@ public final class ParameterConverter {
    * Convert path parameters to nodes.
    *
    * @param specParameters The path parameters from specification.
+   * @param pattern        The pattern of the path template.
    * @param path           The rendered path from the request.
    * @return A map with parameters names associated with the value as node.
+   * @deprecated The conversion plan is compiled on each call,
+   * use {@link #pathToNode(ConversionPlan, PathRouter.Match)} with a plan compiled once.
    */
+  @Deprecated
   public static Map<String, JsonNode> pathToNode(final Map<String, AbsParameter<Parameter>> specParameters,
                                                  final Pattern pattern,
                                                  final String path) {
@@ -104,31 +104,133 @@ public final class ParameterConverter {
       return mappedValues;
     }
 
-    for (Map.Entry<String, AbsParameter<Parameter>> paramEntry : specParameters.entrySet()) {
-      final String paramName = paramEntry.getKey();
-      final AbsParameter<Parameter> param = paramEntry.getValue();
-      final JsonNode convertedValue;
+    final ConversionPlan plan = ConversionPlan.forPath(specParameters);
+    for (int i = 0; i < plan.size(); i++) {
+      final ConversionPlan.Entry entry = plan.get(i);
 
-      if (param.getSchema() != null) {
-        final String style = param.getStyle();
+      mappedValues.put(
+        entry.name,
+        pathToNode(entry, path, matcher.start(entry.name), matcher.end(entry.name)));
+    }
 
-        if (LABEL.equals(style)) {
-          convertedValue = LabelStyleConverter.instance().convert(param, paramName, matcher.group(paramName));
-        } else if (MATRIX.equals(style)) {
-          convertedValue = MatrixStyleConverter.instance().convert(param, paramName, matcher.group(paramName));
-        } else { // simple is the default
-          convertedValue = SimpleStyleConverter.instance().convert(param, paramName, matcher.group(paramName));
-        }
-      } else {
-        convertedValue = getValueFromContentType(param.getContentMediaTypes(), matcher.group(paramName));
+    return mappedValues;
+  }
+
+  /**
+   * Convert path parameters to nodes.
+   * Values are read from the offsets given by the path resolution, no further matching is done.
+   *
+   * @param specParameters The path parameters from specification.
+   * @param match          The resolved path from the request.
+   * @return A map with parameters names associated with the value as node.
+   * @deprecated The conversion plan is compiled on each call,
+   * use {@link #pathToNode(ConversionPlan, PathRouter.Match)} with a plan compiled once.
+   */
+  @Deprecated
+  public static Map<String, JsonNode> pathToNode(final Map<String, AbsParameter<Parameter>> specParameters,
+                                                 final PathRouter.Match<?> match) {
+
+    return pathToNode(ConversionPlan.forPath(specParameters), match);
+  }
+
+  /**
+   * Convert path parameters to nodes.
+   * Values are read from the offsets given by the path resolution, no further matching is done.
+   *
+   * @param plan  The conversion plan of the path parameters.
+   * @param match The resolved path from the request.
+   * @return A map with parameters names associated with the value as node.
+   */
+  public static Map<String, JsonNode> pathToNode(final ConversionPlan plan,
+                                                 final PathRouter.Match<?> match) {
+
+    final Map<String, JsonNode> mappedValues = new HashMap<>();
+
+    for (int i = 0; i < plan.size(); i++) {
+      final ConversionPlan.Entry entry = plan.get(i);
+
+      final int index = match.getParameterIndex(entry.name);
+      if (index == -1) {
+        continue; // Parameter is not bound to the path template
       }
 
-      mappedValues.put(paramName, convertedValue);
+      mappedValues.put(
+        entry.name,
+        pathToNode(entry, match.getPath(), match.getBeginIndex(index), match.getEndIndex(index)));
     }
 
     return mappedValues;
   }
 
+  /**
+   * Convert path parameters to nodes.
+   *
+   * @param specParameters The path parameters from specification.
+   * @param rawValues      The raw values of the parameters, already extracted from the path.
+   * @return A map with parameters names associated with the value as node.
+   * @deprecated The conversion plan is compiled on each call,
+   * use {@link #pathToNode(ConversionPlan, Map)} with a plan compiled once.
+   */
+  @Deprecated
+  public static Map<String, JsonNode> pathToNode(final Map<String, AbsParameter<Parameter>> specParameters,
+                                                 final Map<String, String> rawValues) {
+
+    return pathToNode(ConversionPlan.forPath(specParameters), rawValues);
+  }
+
+  /**
+   * Convert path parameters to nodes.
+   *
+   * @param plan      The conversion plan of the path parameters.
+   * @param rawValues The raw values of the parameters, already extracted from the path.
+   * @return A map with parameters names associated with the value as node.
+   */
+  public static Map<String, JsonNode> pathToNode(final ConversionPlan plan,
+                                                 final Map<String, String> rawValues) {
+
+    final Map<String, JsonNode> mappedValues = new HashMap<>();
+
+    if (rawValues == null) {
+      return mappedValues;
+    }
+
+    for (int i = 0; i < plan.size(); i++) {
+      final ConversionPlan.Entry entry = plan.get(i);
+
+      final String rawValue = rawValues.get(entry.name);
+      if (rawValue == null) {
+        continue; // Parameter is not bound to the path template
+      }
+
+      mappedValues.put(
+        entry.name,
+        pathToNode(entry, rawValue, 0, rawValue.length()));
+    }
+
+    return mappedValues;
+  }
+
+  private static JsonNode pathToNode(final ConversionPlan.Entry entry,
+                                     final String path,
+                                     final int beginIndex,
+                                     final int endIndex) {
+
+    if (beginIndex == -1) {
+      return null; // Group did not participate to the match
+    }
+
+    switch (entry.style) {
+      case CONTENT:
+        return getValueFromContentType(entry, path.substring(beginIndex, endIndex));
+      case LABEL:
+        return LabelStyleConverter.instance().convert(entry.param, entry.type, entry.name, path, beginIndex, endIndex);
+      case MATRIX:
+        return MatrixStyleConverter.instance().convert(entry.param, entry.type, entry.name, path, beginIndex, endIndex);
+      default: // simple is the default
+        return SimpleStyleConverter.instance().convert(entry.param, entry.type, entry.name, path, beginIndex, endIndex);
+    }
+  }
+
   /**
    * Convert form data parameters to nodes.
    * The query string MUST BE in the appropriate form corresponding to the associated style.
@@ -136,12 +238,30 @@ public final class ParameterConverter {
    * @param specParameters The spec query parameters.
    * @param rawValue       The raw query string.
    * @return A map with parameters names associated with the value as node.
+   * @deprecated The conversion plan is compiled on each call,
+   * use {@link #queryToNode(ConversionPlan, String, String)} with a plan compiled once.
    */
+  @Deprecated
   public static Map<String, JsonNode> queryToNode(final Map<String, AbsParameter<Parameter>> specParameters,
                                                   final String rawValue,
                                                   final String encoding) {
 
-    return FormUrlConverter.instance().convert(specParameters, rawValue, false, encoding);
+    return queryToNode(ConversionPlan.forQuery(specParameters), rawValue, encoding);
+  }
+
+  /**
+   * Convert form data parameters to nodes.
+   * The query string MUST BE in the appropriate form corresponding to the associated style.
+   *
+   * @param plan     The conversion plan of the query parameters.
+   * @param rawValue The raw query string.
+   * @return A map with parameters names associated with the value as node.
+   */
+  public static Map<String, JsonNode> queryToNode(final ConversionPlan plan,
+                                                  final String rawValue,
+                                                  final String encoding) {
+
+    return FormUrlConverter.instance().convert(plan, rawValue, false, encoding);
   }
 
   /**
@@ -150,31 +270,46 @@ public final class ParameterConverter {
    * @param headers        The headers.
    * @param specParameters The spec header parameters.
    * @return A map with parameters names associated with the value as node.
+   * @deprecated The conversion plan is compiled on each call,
+   * use {@link #headersToNode(ConversionPlan, Map)} with a plan compiled once.
    */
+  @Deprecated
   public static <M extends OpenApiSchema<M>> Map<String, JsonNode> headersToNode(final Map<String, AbsParameter<M>> specParameters,
                                                                                  final Map<String, Collection<String>> headers) {
 
+    return headersToNode(ConversionPlan.forHeaders(specParameters), headers);
+  }
+
+  /**
+   * Convert header parameters to nodes.
+   *
+   * @param plan    The conversion plan of the header parameters.
+   * @param headers The headers.
+   * @return A map with parameters names associated with the value as node.
+   */
+  public static Map<String, JsonNode> headersToNode(final ConversionPlan plan,
+                                                    final Map<String, Collection<String>> headers) {
+
     final Map<String, JsonNode> mappedValues = new HashMap<>();
 
     if (headers == null) {
       return mappedValues;
     }
 
-    for (Map.Entry<String, AbsParameter<M>> paramEntry : specParameters.entrySet()) {
-      final String paramName = paramEntry.getKey();
-      final AbsParameter<M> param = paramEntry.getValue();
+    for (int i = 0; i < plan.size(); i++) {
+      final ConversionPlan.Entry entry = plan.get(i);
       final JsonNode convertedValue;
 
-      if (!headers.containsKey(paramName)) {
+      if (!headers.containsKey(entry.name)) {
         convertedValue = null;
       } else {
-        Collection<String> headerValues = headers.get(paramName);
+        Collection<String> headerValues = headers.get(entry.name);
         if (headerValues != null) {
-          if (param.getSchema() != null) {
-            convertedValue = SimpleStyleConverter.instance().convert(param, paramName, String.join(",", headerValues));
+          if (entry.style != ConversionPlan.Style.CONTENT) {
+            convertedValue = SimpleStyleConverter.instance().convert(entry.param, entry.type, entry.name, String.join(",", headerValues));
           } else {
             convertedValue = getValueFromContentType(
-              param.getContentMediaTypes(),
+              entry,
               headerValues.stream().findFirst().orElse(null));
           }
         } else {
@@ -183,7 +318,7 @@ public final class ParameterConverter {
       }
 
       if (convertedValue != null) {
-        mappedValues.put(paramName, convertedValue);
+        mappedValues.put(entry.name, convertedValue);
       }
     }
 
@@ -196,34 +331,45 @@ public final class ParameterConverter {
    * @param cookies        The cookies.
    * @param specParameters The spec cookie parameters.
    * @return A map with parameters names associated with the value as node.
+   * @deprecated The conversion plan is compiled on each call,
+   * use {@link #cookiesToNode(ConversionPlan, Map)} with a plan compiled once.
    */
+  @Deprecated
   public static Map<String, JsonNode> cookiesToNode(final Map<String, AbsParameter<Parameter>> specParameters,
                                                     final Map<String, String> cookies) {
 
+    return cookiesToNode(ConversionPlan.forCookies(specParameters), cookies);
+  }
+
+  /**
+   * Convert cookie parameters to nodes.
+   *
+   * @param plan    The conversion plan of the cookie parameters.
+   * @param cookies The cookies.
+   * @return A map with parameters names associated with the value as node.
+   */
+  public static Map<String, JsonNode> cookiesToNode(final ConversionPlan plan,
+                                                    final Map<String, String> cookies) {
+
     final Map<String, JsonNode> mappedValues = new HashMap<>();
 
     if (cookies == null) {
       return mappedValues;
     }
 
-    for (Map.Entry<String, AbsParameter<Parameter>> paramEntry : specParameters.entrySet()) {
-      final String paramName = paramEntry.getKey();
-      final AbsParameter<Parameter> param = paramEntry.getValue();
+    for (int i = 0; i < plan.size(); i++) {
+      final ConversionPlan.Entry entry = plan.get(i);
       final JsonNode convertedValue;
 
-      if (param.getExplode() == null) { // explode true is default
-        param.setExplode(true);
-      }
-
-      if (!cookies.containsKey(paramName)) {
+      if (!cookies.containsKey(entry.name)) {
         convertedValue = null;
       } else {
-        String value = cookies.get(paramName);
+        String value = cookies.get(entry.name);
         if (value != null) {
-          if (param.getSchema() != null) {
-            convertedValue = SimpleStyleConverter.instance().convert(param, paramName, value);
+          if (entry.style != ConversionPlan.Style.CONTENT) {
+            convertedValue = SimpleStyleConverter.instance().convert(entry.param, entry.type, entry.name, value);
           } else {
-            convertedValue = getValueFromContentType(param.getContentMediaTypes(), value);
+            convertedValue = getValueFromContentType(entry, value);
           }
         } else {
           convertedValue = JsonNodeFactory.instance.nullNode();
@@ -231,27 +377,21 @@ public final class ParameterConverter {
       }
 
       if (convertedValue != null) {
-        mappedValues.put(paramName, convertedValue);
+        mappedValues.put(entry.name, convertedValue);
       }
     }
 
     return mappedValues;
   }
 
-  private static JsonNode getValueFromContentType(final Map<String, MediaType> mediaTypes,
+  private static JsonNode getValueFromContentType(final ConversionPlan.Entry entry,
                                                   final String value) {
 
-    if (mediaTypes != null && value != null) {
-      Optional<Map.Entry<String, MediaType>> entry = mediaTypes.entrySet().stream().findFirst();
-
-      if (entry.isPresent()) {
-        Map.Entry<String, MediaType> mediaType = entry.get();
-
-        try {
-          return ContentConverter.convert(mediaType.getValue(), mediaType.getKey(), null, value);
-        } catch (IOException e) {
-          return null;
-        }
+    if (entry.mediaType != null && value != null) {
+      try {
+        return ContentConverter.convert(entry.mediaType, entry.contentType, null, value);
+      } catch (IOException e) {
+        return null;
       }
     }
 
@@ -0,0 +1,158 @@
+package org.openapi4j.operation.validator.util.convert;
+
+import org.openapi4j.parser.model.v3.Schema;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.*;
+
+/**
+ * Types of a schema resolved once for conversion.
+ * <p/>
+ * The supposed type, the target of primitive values, the items and the properties
+ * are resolved from the specification, so conversion doesn't deduce them for each value.
+ */
+public final class SchemaType {
+  enum ValueType {
+    BOOLEAN,
+    INT32,
+    INT64,
+    INTEGER,
+    FLOAT,
+    DOUBLE,
+    NUMBER,
+    STRING
+  }
+
+  private final Schema schema;
+  private final String type;
+  private final ValueType valueType;
+  // Set while resolving, read only afterwards
+  private SchemaType items;
+  private SchemaType additionalProperties;
+  private Map<String, SchemaType> properties;
+
+  private SchemaType(final Schema schema) {
+    this.schema = schema;
+    type = schema.getSupposedType();
+    valueType = getValueType(type, schema.getFormat());
+  }
+
+  /**
+   * Resolve the types of the given schema and its sub-schemas.
+   *
+   * @param schema The schema from specification.
+   * @return The resolved types or {@code null} if the schema is {@code null}.
+   */
+  public static SchemaType of(final Schema schema) {
+    return of(schema, new IdentityHashMap<>());
+  }
+
+  /**
+   * @return The schema from specification.
+   */
+  public Schema getSchema() {
+    return schema;
+  }
+
+  /**
+   * @return The type given or deduced from the schema, may be {@code null}.
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * @return The types of the items or {@code null}.
+   */
+  public SchemaType getItems() {
+    return items;
+  }
+
+  /**
+   * @return The types of the additional properties or {@code null}.
+   */
+  public SchemaType getAdditionalProperties() {
+    return additionalProperties;
+  }
+
+  /**
+   * @return The types of the properties, never {@code null}.
+   */
+  public Map<String, SchemaType> getProperties() {
+    return properties;
+  }
+
+  public SchemaType getProperty(final String name) {
+    return properties.get(name);
+  }
+
+  public boolean hasProperty(final String name) {
+    return properties.containsKey(name);
+  }
+
+  ValueType getValueType() {
+    return valueType;
+  }
+
+  private static SchemaType of(final Schema schema, final Map<Schema, SchemaType> visited) {
+    if (schema == null) {
+      return null;
+    }
+
+    // Recursive schemas share the same instance
+    SchemaType schemaType = visited.get(schema);
+    if (schemaType != null) {
+      return schemaType;
+    }
+
+    schemaType = new SchemaType(schema);
+    visited.put(schema, schemaType);
+
+    schemaType.items = of(schema.getItemsSchema(), visited);
+    schemaType.additionalProperties = of(schema.getAdditionalProperties(), visited);
+
+    Map<String, Schema> specProperties = schema.getProperties();
+    if (specProperties == null || specProperties.isEmpty()) {
+      schemaType.properties = Collections.emptyMap();
+    } else {
+      Map<String, SchemaType> properties = new HashMap<>();
+      for (Map.Entry<String, Schema> entry : specProperties.entrySet()) {
+        properties.put(entry.getKey(), of(entry.getValue(), visited));
+      }
+      schemaType.properties = Collections.unmodifiableMap(properties);
+    }
+
+    return schemaType;
+  }
+
+  private static ValueType getValueType(final String type, final String format) {
+    if (type == null) {
+      return ValueType.STRING;
+    }
+
+    switch (type) {
+      case TYPE_BOOLEAN:
+        return ValueType.BOOLEAN;
+      case TYPE_INTEGER:
+        if (FORMAT_INT32.equals(format)) {
+          return ValueType.INT32;
+        } else if (FORMAT_INT64.equals(format)) {
+          return ValueType.INT64;
+        }
+        return ValueType.INTEGER;
+      case TYPE_NUMBER:
+        if (FORMAT_FLOAT.equals(format)) {
+          return ValueType.FLOAT;
+        } else if (FORMAT_DOUBLE.equals(format)) {
+          return ValueType.DOUBLE;
+        }
+        return ValueType.NUMBER;
+      default:
+        return ValueType.STRING;
+    }
+  }
+}
@@ -11,7 +11,8 @@ import java.math.BigInteger;
 import java.util.Collection;
 import java.util.Map;
 
-import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.*;
+import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_ARRAY;
+import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_OBJECT;
 
 public final class TypeConverter {
   private static final TypeConverter INSTANCE = new TypeConverter();
@@ -26,18 +27,24 @@ public final class TypeConverter {
   public JsonNode convertObject(final Schema schema,
                                 final Map<String, Object> content) {
 
-    if (schema == null || content == null) {
+    return objectToNode(SchemaType.of(schema), content);
+  }
+
+  public JsonNode objectToNode(final SchemaType schemaType,
+                                final Map<String, Object> content) {
+
+    if (schemaType == null || content == null) {
       return JsonNodeFactory.instance.nullNode();
     }
 
-    Map<String, Schema> properties = schema.getProperties();
-    if (properties == null || properties.isEmpty()) {
+    Map<String, SchemaType> properties = schemaType.getProperties();
+    if (properties.isEmpty()) {
       return JsonNodeFactory.instance.nullNode();
     }
 
     ObjectNode convertedContent = JsonNodeFactory.instance.objectNode();
 
-    for (Map.Entry<String, Schema> entry : properties.entrySet()) {
+    for (Map.Entry<String, SchemaType> entry : properties.entrySet()) {
       String entryKey = entry.getKey();
 
       if (!content.containsKey(entryKey)) {
@@ -46,17 +53,13 @@ public final class TypeConverter {
 
       Object value = content.get(entryKey);
 
-      Schema propSchema = entry.getValue();
-      switch (propSchema.getSupposedType()) {
-        case TYPE_OBJECT:
-          convertedContent.set(entryKey, convertObject(propSchema, castMap(value)));
-          break;
-        case TYPE_ARRAY:
-          convertedContent.set(entryKey, convertArray(propSchema.getItemsSchema(), castList(value)));
-          break;
-        default:
-          convertedContent.set(entryKey, convertPrimitive(propSchema, value));
-          break;
+      SchemaType propType = entry.getValue();
+      if (TYPE_OBJECT.equals(propType.getType())) {
+        convertedContent.set(entryKey, objectToNode(propType, castMap(value)));
+      } else if (TYPE_ARRAY.equals(propType.getType())) {
+        convertedContent.set(entryKey, arrayToNode(propType.getItems(), castList(value)));
+      } else {
+        convertedContent.set(entryKey, primitiveToNode(propType, value));
       }
     }
 
@@ -66,59 +69,61 @@ public final class TypeConverter {
   public JsonNode convertArray(final Schema schema,
                                final Collection<Object> content) {
 
-    if (schema == null || content == null) {
+    return arrayToNode(SchemaType.of(schema), content);
+  }
+
+  public JsonNode arrayToNode(final SchemaType schemaType,
+                               final Collection<Object> content) {
+
+    if (schemaType == null || content == null) {
       return JsonNodeFactory.instance.nullNode();
     }
 
     ArrayNode convertedContent = JsonNodeFactory.instance.arrayNode();
 
-    switch (schema.getSupposedType()) {
-      case TYPE_OBJECT:
-        for (Object value : content) {
-          convertedContent.add(convertObject(schema, castMap(value)));
-        }
-        break;
-      case TYPE_ARRAY:
-        for (Object value : content) {
-          convertedContent.add(convertArray(schema.getItemsSchema(), castList(value)));
-        }
-        break;
-      default:
-        for (Object value : content) {
-          convertedContent.add(convertPrimitive(schema, value));
-        }
-        break;
+    if (TYPE_OBJECT.equals(schemaType.getType())) {
+      for (Object value : content) {
+        convertedContent.add(objectToNode(schemaType, castMap(value)));
+      }
+    } else if (TYPE_ARRAY.equals(schemaType.getType())) {
+      for (Object value : content) {
+        convertedContent.add(arrayToNode(schemaType.getItems(), castList(value)));
+      }
+    } else {
+      for (Object value : content) {
+        convertedContent.add(primitiveToNode(schemaType, value));
+      }
     }
 
     return convertedContent;
   }
 
   public JsonNode convertPrimitive(final Schema schema, Object value) {
-    if (schema == null || value == null) {
+    return primitiveToNode(SchemaType.of(schema), value);
+  }
+
+  public JsonNode primitiveToNode(final SchemaType schemaType, Object value) {
+    if (schemaType == null || value == null) {
       return JsonNodeFactory.instance.nullNode();
     }
 
     try {
-      switch (schema.getSupposedType()) {
-        case TYPE_BOOLEAN:
+      switch (schemaType.getValueType()) {
+        case BOOLEAN:
           return JsonNodeFactory.instance.booleanNode(parseBoolean(value.toString()));
-        case TYPE_INTEGER:
-          if (FORMAT_INT32.equals(schema.getFormat())) {
-            return JsonNodeFactory.instance.numberNode(Integer.parseInt(value.toString()));
-          } else if (FORMAT_INT64.equals(schema.getFormat())) {
-            return JsonNodeFactory.instance.numberNode(Long.parseLong(value.toString()));
-          } else {
-            return JsonNodeFactory.instance.numberNode(new BigInteger(value.toString()));
-          }
-        case TYPE_NUMBER:
-          if (FORMAT_FLOAT.equals(schema.getFormat())) {
-            return JsonNodeFactory.instance.numberNode(Float.parseFloat(value.toString()));
-          } else if (FORMAT_DOUBLE.equals(schema.getFormat())) {
-            return JsonNodeFactory.instance.numberNode(Double.parseDouble(value.toString()));
-          } else {
-            return JsonNodeFactory.instance.numberNode(new BigDecimal(value.toString()));
-          }
-        case TYPE_STRING:
+        case INT32:
+          return JsonNodeFactory.instance.numberNode(Integer.parseInt(value.toString()));
+        case INT64:
+          return JsonNodeFactory.instance.numberNode(Long.parseLong(value.toString()));
+        case INTEGER:
+          return JsonNodeFactory.instance.numberNode(new BigInteger(value.toString()));
+        case FLOAT:
+          return JsonNodeFactory.instance.numberNode(Float.parseFloat(value.toString()));
+        case DOUBLE:
+          return JsonNodeFactory.instance.numberNode(Double.parseDouble(value.toString()));
+        case NUMBER:
+          return JsonNodeFactory.instance.numberNode(new BigDecimal(value.toString()));
+        case STRING:
         default:
           return JsonNodeFactory.instance.textNode(value.toString());
       }
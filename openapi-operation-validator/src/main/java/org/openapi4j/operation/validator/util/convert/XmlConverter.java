@@ -5,34 +5,34 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-import org.json.JSONObject;
-import org.json.XML;
-import org.json.XMLParserConfiguration;
-import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.parser.model.v3.Schema;
 import org.openapi4j.parser.model.v3.Xml;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_ARRAY;
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_OBJECT;
 
+/**
+ * Convert XML content to tree nodes in a single pass, guided by the schema and its XML objects.
+ * <p/>
+ * Namespaces are resolved by the parser, elements and attributes are matched by their local names.
+ * Multiple root elements are allowed (i.e. unwrapped array).
+ */
 class XmlConverter {
   private static final XmlConverter INSTANCE = new XmlConverter();
 
-  // Pattern to remove all namespace information
-  private static final Pattern nsPattern
-    = Pattern.compile("<(/)*" // begin XML chapter & slash ?
-    + "\\w+:" // namespace prefix
-    + "(\\w+)" // XML chapter
-    + "((?:\\s+\\w+=\".+?\")*)" // XML attributes before namespace reference
-    + "(?:\\s+\\w+:\\w+=\".+?\")?" // namespace reference
-    + "((?:\\s+\\w+=\".+?\")*)" // XML attributes after namespace reference
-    + "(\\s*/?)>"); // trailing slash ? & end XML chapter
-
-  private static final String nsReplace = "<$1$2$3$4$5>";
+  private static final XMLInputFactory XML_FACTORY = createFactory();
 
   private XmlConverter() {
   }
@@ -41,118 +41,302 @@ class XmlConverter {
     return INSTANCE;
   }
 
-  JsonNode convert(final Schema schema, String body) {
-    return convert(
-      schema,
-      XML.toJSONObject(nsPattern.matcher(body).replaceAll(nsReplace), XMLParserConfiguration.KEEP_STRINGS));
+  JsonNode convert(final Schema schema, final String body) throws IOException {
+    return convert(schema, new StringReader(body));
   }
 
-  private JsonNode convert(final Schema schema, final JSONObject xml) {
-    if (xml.isEmpty()) {
-      return JsonNodeFactory.instance.nullNode();
-    }
+  JsonNode convert(final Schema schema, final InputStream body, final String encoding) throws IOException {
+    return convert(schema, new InputStreamReader(body, encoding));
+  }
+
+  private JsonNode convert(final Schema schema, final Reader body) throws IOException {
+    XMLStreamReader reader = null;
 
-    JsonNode content;
     try {
-      content = TreeUtil.json.readTree(xml.toString());
-    } catch (IOException e) {
-      return JsonNodeFactory.instance.nullNode();
+      reader = XML_FACTORY.createXMLStreamReader(new FragmentReader(body));
+      reader.nextTag(); // Synthetic root element
+
+      return readRoot(schema, reader);
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex.getMessage(), ex);
+    } finally {
+      if (reader != null) {
+        try {
+          reader.close();
+        } catch (XMLStreamException ignored) {
+          // Nothing to do
+        }
+      }
     }
+  }
 
-    // Specific case of xml2json mapping : Unwrap first key to match JSON content
-    if (TYPE_OBJECT.equals(schema.getSupposedType())) {
-      content = content.fields().next().getValue();
+  private JsonNode readRoot(final Schema schema, final XMLStreamReader reader) throws XMLStreamException {
+    if (TYPE_ARRAY.equals(schema.getSupposedType()) && !isWrapped(schema)) {
+      // Root elements are the items
+      ArrayNode result = JsonNodeFactory.instance.arrayNode();
+      String itemName = getName(schema.getItemsSchema(), null);
+
+      while (nextElement(reader)) {
+        if (itemName == null || itemName.equals(reader.getLocalName())) {
+          result.add(readValue(schema.getItemsSchema(), reader));
+        } else {
+          skipElement(reader);
+        }
+      }
+
+      return result.size() != 0 ? result : JsonNodeFactory.instance.nullNode();
+    }
+
+    // Root element name is not checked
+    if (!nextElement(reader)) {
+      return JsonNodeFactory.instance.nullNode();
     }
 
-    return processNode(schema, content);
+    return readValue(schema, reader);
   }
 
-  private JsonNode processNode(final Schema schema, final JsonNode node) {
-    JsonNode content = unwrap(schema, node, null);
-    if (content == null) {
-      return null;
+  private JsonNode readValue(final Schema schema, final XMLStreamReader reader) throws XMLStreamException {
+    if (schema == null) {
+      return JsonNodeFactory.instance.textNode(readText(reader));
     }
 
     if (TYPE_ARRAY.equals(schema.getSupposedType())) {
-      return parseArray(schema, content);
+      // Wrapper element, all children are items
+      ArrayNode result = JsonNodeFactory.instance.arrayNode();
+      while (nextElement(reader)) {
+        result.add(readValue(schema.getItemsSchema(), reader));
+      }
+      return result;
     } else if (TYPE_OBJECT.equals(schema.getSupposedType())) {
-      return parseObject(schema, content);
+      return readObject(schema, reader);
     } else {
-      return TypeConverter.instance().convertPrimitive(schema, content.asText());
+      return TypeConverter.instance().convertPrimitive(schema, readText(reader));
     }
   }
 
-  private JsonNode parseArray(final Schema schema, final JsonNode node) {
-    if (!node.isArray()) {
-      return JsonNodeFactory.instance.nullNode();
+  private JsonNode readObject(final Schema schema, final XMLStreamReader reader) throws XMLStreamException {
+    ObjectNode result = JsonNodeFactory.instance.objectNode();
+    Map<String, Schema> properties = schema.getProperties();
+    if (properties == null) {
+      skipElement(reader);
+      return result;
+    }
+
+    // Attributes
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      String name = reader.getAttributeLocalName(i);
+
+      for (Map.Entry<String, Schema> entry : properties.entrySet()) {
+        Schema propSchema = entry.getValue();
+        String type = propSchema.getSupposedType();
+
+        if (!TYPE_ARRAY.equals(type) && !TYPE_OBJECT.equals(type) && name.equals(getName(propSchema, entry.getKey()))) {
+          result.set(entry.getKey(), TypeConverter.instance().convertPrimitive(propSchema, reader.getAttributeValue(i)));
+          break;
+        }
+      }
     }
 
-    ArrayNode resultNode = JsonNodeFactory.instance.arrayNode();
-    for (JsonNode arrayItem : node) {
-      resultNode.add(processNode(schema.getItemsSchema(), arrayItem));
+    // Elements
+    while (nextElement(reader)) {
+      if (!readProperty(properties, result, reader)) {
+        skipElement(reader);
+      }
     }
 
-    return resultNode;
+    return result;
   }
 
-  private JsonNode parseObject(final Schema schema, final JsonNode node) {
-    if (!node.isObject()) {
-      return JsonNodeFactory.instance.nullNode();
-    }
+  private boolean readProperty(final Map<String, Schema> properties,
+                               final ObjectNode result,
+                               final XMLStreamReader reader) throws XMLStreamException {
 
-    ObjectNode resultNode = JsonNodeFactory.instance.objectNode();
+    String name = reader.getLocalName();
 
-    for (Map.Entry<String, Schema> entry : schema.getProperties().entrySet()) {
-      String entryKey = entry.getKey();
+    for (Map.Entry<String, Schema> entry : properties.entrySet()) {
+      String propName = entry.getKey();
       Schema propSchema = entry.getValue();
 
-      JsonNode value = processNode(propSchema, unwrap(schema, node, entryKey));
+      if (TYPE_ARRAY.equals(propSchema.getSupposedType()) && !isWrapped(propSchema)) {
+        // Unwrapped array, each element is an item
+        if (name.equals(getName(propSchema.getItemsSchema(), getName(propSchema, propName)))) {
+          JsonNode values = result.get(propName);
+          if (!(values instanceof ArrayNode)) {
+            values = result.putArray(propName);
+          }
+          ((ArrayNode) values).add(readValue(propSchema.getItemsSchema(), reader));
+          return true;
+        }
+      } else if (name.equals(getName(propSchema, propName))) {
+        result.set(propName, readValue(propSchema, reader));
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Read the text content of the current element, child elements are ignored.
+   */
+  private String readText(final XMLStreamReader reader) throws XMLStreamException {
+    StringBuilder text = new StringBuilder();
+
+    int depth = 0;
+    while (true) {
+      switch (reader.next()) {
+        case XMLStreamConstants.START_ELEMENT:
+          depth++;
+          break;
+        case XMLStreamConstants.END_ELEMENT:
+          if (depth-- == 0) {
+            return text.toString().trim();
+          }
+          break;
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.CDATA:
+        case XMLStreamConstants.SPACE:
+          if (depth == 0) {
+            text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+          }
+          break;
+        default:
+          break;
+      }
+    }
+  }
 
-      if (value != null) {
-        resultNode.set(entryKey, value);
+  /**
+   * Move to the next child element of the current element.
+   *
+   * @return {@code true} if positioned on a child element, {@code false} if the current element is ended.
+   */
+  private boolean nextElement(final XMLStreamReader reader) throws XMLStreamException {
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        return true;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        return false;
       }
     }
 
-    return resultNode;
+    return false;
   }
 
-  private JsonNode unwrap(final Schema schema, final JsonNode content, final String defaultKey) {
-    Xml xmlConf = schema.getXml();
+  private void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+    int depth = 0;
+    while (true) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT && depth-- == 0) {
+        return;
+      }
+    }
+  }
 
-    if (TYPE_ARRAY.equals(schema.getSupposedType())) {
-      // is array wrapped ?
-      if (xmlConf != null && xmlConf.isWrapped()) {
-        if (xmlConf.getName() != null) {
-          return getRenamedNode(xmlConf, content.get(xmlConf.getName()), xmlConf.getName());
-        }
+  private boolean isWrapped(final Schema schema) {
+    return schema.getXml() != null && schema.getXml().isWrapped();
+  }
 
-        // fallback for array as root element
-        if (content.size() == 1) {
-          return content.fields().next().getValue();
-        } else {
-          return JsonNodeFactory.instance.nullNode();
+  private String getName(final Schema schema, final String defaultName) {
+    Xml xmlConf = (schema != null) ? schema.getXml() : null;
+
+    return (xmlConf != null && xmlConf.getName() != null) ? xmlConf.getName() : defaultName;
+  }
+
+  private static XMLInputFactory createFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    // No DTD, no external entities
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
+  /**
+   * Surrounds the content with a synthetic root element to allow multiple root elements.
+   * The XML declaration of the content is skipped since it can't be nested.
+   */
+  private static final class FragmentReader extends Reader {
+    private static final String START = "<root>";
+    private static final String END = "</root>";
+    private static final String DECLARATION = "<?xml";
+    private static final char BOM = '\uFEFF';
+
+    private final PushbackReader content;
+    private String pending = START;
+    private int pendingIndex;
+    private boolean isContentDone;
+
+    private FragmentReader(Reader content) {
+      this.content = new PushbackReader(content, DECLARATION.length() + 1);
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+
+      if (pending != null) {
+        int count = Math.min(len, pending.length() - pendingIndex);
+        pending.getChars(pendingIndex, pendingIndex + count, cbuf, off);
+        pendingIndex += count;
+
+        if (pendingIndex == pending.length()) {
+          if (pending == START) {
+            skipDeclaration();
+          }
+          pending = null;
         }
+        return count;
       }
 
-      // is unwrapped array has a renamed node ?
-      xmlConf = schema.getItemsSchema().getXml();
-      if (xmlConf != null) {
-        return getRenamedNode(xmlConf, content, xmlConf.getName());
+      if (isContentDone) {
+        return -1;
       }
-    } else if (TYPE_OBJECT.equals(schema.getSupposedType())) {
-      return getRenamedNode(xmlConf, content, defaultKey);
-    }
 
-    return content;
-  }
+      int count = content.read(cbuf, off, len);
+      if (count == -1) {
+        isContentDone = true;
+        pending = END;
+        pendingIndex = 0;
+        return read(cbuf, off, len);
+      }
+      return count;
+    }
 
-  private JsonNode getRenamedNode(final Xml xmlConf, final JsonNode content, final String defaultKey) {
-    if (xmlConf != null && xmlConf.getName() != null) {
-      return content.get(xmlConf.getName());
-    } else if (defaultKey != null) {
-      return content.get(defaultKey);
+    @Override
+    public void close() throws IOException {
+      content.close();
     }
 
-    return content;
+    private void skipDeclaration() throws IOException {
+      char[] head = new char[DECLARATION.length() + 1];
+      int count = 0;
+      int c;
+      while (count < head.length && (c = content.read()) != -1) {
+        // Leading BOM & whitespaces are dropped, they're not significant before the root element
+        if (count != 0 || (c != BOM && !Character.isWhitespace(c))) {
+          head[count++] = (char) c;
+        }
+      }
+
+      if (count == head.length
+        && DECLARATION.equals(new String(head, 0, DECLARATION.length()))
+        && Character.isWhitespace(head[DECLARATION.length()])) {
+
+        // Skip until end of declaration
+        int previous = 0;
+        while ((c = content.read()) != -1 && !(previous == '?' && c == '>')) {
+          previous = c;
+        }
+      } else {
+        content.unread(head, 0, count);
+      }
+    }
   }
 }
@@ -3,15 +3,13 @@ package org.openapi4j.operation.validator.util.convert.style;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import org.openapi4j.core.util.MultiStringMap;
 import org.openapi4j.core.util.StringUtil;
+import org.openapi4j.operation.validator.util.ParameterPairs;
+import org.openapi4j.operation.validator.util.convert.SchemaType;
 import org.openapi4j.operation.validator.util.convert.TypeConverter;
 import org.openapi4j.parser.model.v3.AbsParameter;
-import org.openapi4j.parser.model.v3.Schema;
 
-import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_OBJECT;
 
@@ -25,30 +23,28 @@ public class DeepObjectStyleConverter {
     return INSTANCE;
   }
 
-  public JsonNode convert(AbsParameter<?> param, String paramName, MultiStringMap<String> paramPairs, List<String> visitedParams) {
+  public JsonNode convert(AbsParameter<?> param, SchemaType type, String paramName, ParameterPairs paramPairs, List<String> visitedParams) {
     ObjectNode result = JsonNodeFactory.instance.objectNode();
-    Schema propSchema = param.getSchema();
-    String type = propSchema.getSupposedType();
 
-    for (Map.Entry<String, Collection<String>> valueEntry : paramPairs.entrySet()) {
-      String propPath = valueEntry.getKey();
+    for (int i = 0; i < paramPairs.size(); i++) {
+      String propPath = paramPairs.getKey(i);
 
       if (propPath.startsWith(paramName + "[")) {
         // tokenize
         List<String> properties = StringUtil.tokenize(propPath, "\\[|\\]", true, true);
-        if (properties.size() == 2) {
+        if (properties.size() == 2 && !result.has(properties.get(1))) {
           String propName = properties.get(1);
 
-          // Convert value or get string representation
-          JsonNode value = TypeConverter.instance().convertPrimitive(
-            propSchema.getProperty(propName),
-            valueEntry.getValue().stream().findFirst().orElse(null));
+          // Convert first value or get string representation
+          JsonNode value = TypeConverter.instance().primitiveToNode(
+            type.getProperty(propName),
+            paramPairs.getValue(i));
 
           result.set(propName, value);
 
           visitedParams.add(propPath);
         }
-      } else if (propPath.equals(paramName) && TYPE_OBJECT.equals(type)) {
+      } else if (propPath.equals(paramName) && TYPE_OBJECT.equals(type.getType())) {
         // propPath is malformed, we still invalidate the paramName
         visitedParams.add(propPath);
       }
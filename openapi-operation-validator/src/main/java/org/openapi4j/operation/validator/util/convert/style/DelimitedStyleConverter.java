@@ -1,8 +1,9 @@
 package org.openapi4j.operation.validator.util.convert.style;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import org.openapi4j.core.util.MultiStringMap;
 import org.openapi4j.core.util.StringUtil;
+import org.openapi4j.operation.validator.util.ParameterPairs;
+import org.openapi4j.operation.validator.util.convert.SchemaType;
 import org.openapi4j.parser.model.v3.AbsParameter;
 
 import java.util.*;
@@ -17,7 +18,7 @@ class DelimitedStyleConverter extends FlatStyleConverter {
     this.delimiter = delimiter;
   }
 
-  public JsonNode convert(AbsParameter<?> param, String paramName, MultiStringMap<String> paramPairs, List<String> visitedParams) {
+  public JsonNode convert(AbsParameter<?> param, SchemaType type, String paramName, ParameterPairs paramPairs, List<String> visitedParams) {
     Collection<String> paramValues = paramPairs.get(paramName);
 
     if (paramValues == null) {
@@ -32,12 +33,12 @@ class DelimitedStyleConverter extends FlatStyleConverter {
       ? paramValues.iterator().next()
       : String.join(delimiter, paramValues);
 
-    return convert(param, paramName, paramValue);
+    return convert(param, type, paramName, paramValue);
   }
 
   @Override
-  public JsonNode convert(AbsParameter<?> param, String paramName, String paramValue) {
-    if (!TYPE_ARRAY.equals(param.getSchema().getSupposedType())) {
+  public JsonNode convert(AbsParameter<?> param, SchemaType type, String paramName, String paramValue) {
+    if (!TYPE_ARRAY.equals(type.getType())) {
       // delimited parameter cannot be an object or primitive
       return null;
     }
@@ -58,6 +59,6 @@ class DelimitedStyleConverter extends FlatStyleConverter {
 
     paramValues.put(paramName, arrayValues);
 
-    return convert(param, paramName, paramValues);
+    return convert(type, paramName, paramValues);
   }
 }
@@ -1,61 +1,87 @@
 package org.openapi4j.operation.validator.util.convert.style;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openapi4j.operation.validator.util.convert.SchemaType;
 import org.openapi4j.parser.model.v3.AbsParameter;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_ARRAY;
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_OBJECT;
 
 abstract class FlatStyleConverter implements StyleConverter {
-  Map<String, Object> getParameterValues(AbsParameter<?> param, String paramName, String rawValue, String splitPattern) {
-    if (rawValue == null) {
-      return null;
-    }
+  /**
+   * Convert the raw value delimited by the given indexes.
+   * This avoids to extract the value when it is part of a larger string (i.e. the request path).
+   *
+   * @param param      The parameter from specification.
+   * @param type       The types of the parameter schema.
+   * @param paramName  The parameter name.
+   * @param value      The string containing the raw value.
+   * @param beginIndex The begin index of the raw value, inclusive.
+   * @param endIndex   The end index of the raw value, exclusive.
+   * @return The converted value.
+   */
+  public JsonNode convert(AbsParameter<?> param, SchemaType type, String paramName, String value, int beginIndex, int endIndex) {
+    return convert(param, type, paramName, value.substring(beginIndex, endIndex));
+  }
 
+  Map<String, Object> getParameterValues(AbsParameter<?> param, SchemaType type, String paramName, String value, int beginIndex, int endIndex, char delimiter) {
     Map<String, Object> values = new HashMap<>();
 
-    if (TYPE_OBJECT.equals(param.getSchema().getSupposedType())) {
+    if (TYPE_OBJECT.equals(type.getType())) {
       if (param.isExplode()) {
-        handleExplodedObject(param, splitPattern, rawValue, values);
+        for (String propEntry : split(value, beginIndex, endIndex, delimiter)) {
+          List<String> entry = split(propEntry, 0, propEntry.length(), '=');
+          if (entry.size() == 2 && type.hasProperty(entry.get(0))) {
+            values.put(entry.get(0), entry.get(1));
+          }
+        }
       } else {
-        handleNotExplodedObject(param, splitPattern, rawValue, values);
+        List<String> splitValues = split(value, beginIndex, endIndex, delimiter);
+        if (splitValues.size() % 2 == 0) {
+          for (int i = 0; i < splitValues.size(); i += 2) {
+            if (type.hasProperty(splitValues.get(i))) {
+              values.put(splitValues.get(i), splitValues.get(i + 1));
+            }
+          }
+        }
       }
-    } else if (TYPE_ARRAY.equals(param.getSchema().getSupposedType())) {
-      values.put(paramName, Arrays.asList(rawValue.split(splitPattern)));
+    } else if (TYPE_ARRAY.equals(type.getType())) {
+      values.put(paramName, split(value, beginIndex, endIndex, delimiter));
     } else {
-      values.put(paramName, rawValue);
+      values.put(paramName, value.substring(beginIndex, endIndex));
     }
 
     return values;
   }
 
-  private void handleExplodedObject(AbsParameter<?> param, String splitPattern, String rawValue, Map<String, Object> values) {
-    Scanner scanner = new Scanner(rawValue);
-    scanner.useDelimiter(splitPattern);
-    while (scanner.hasNext()) {
-      String[] propEntry = scanner.next().split("=");
-      if (propEntry.length == 2 && param.getSchema().hasProperty(propEntry[0])) {
-        values.put(propEntry[0], propEntry[1]);
-      }
+  /**
+   * Split the given region with the given delimiter.
+   * Same behaviour as {@link String#split(String)}, trailing empty strings are not included.
+   */
+  static List<String> split(String value, int beginIndex, int endIndex, char delimiter) {
+    if (beginIndex == endIndex) {
+      return Collections.singletonList("");
     }
-    scanner.close();
-  }
 
-  private void handleNotExplodedObject(AbsParameter<?> param, String splitPattern, String rawValue, Map<String, Object> values) {
-    String[] splitValues = rawValue.split(splitPattern);
-    if (splitValues.length % 2 == 0) {
-      int i = 0;
-      while (i < splitValues.length) {
-        if (param.getSchema().hasProperty(splitValues[i])) {
-          values.put(splitValues[i++], splitValues[i++]);
-        } else {
-          i = i + 2;
+    List<String> values = new ArrayList<>();
+    int start = beginIndex;
+    int lastNonEmpty = 0;
+    for (int i = beginIndex; i <= endIndex; i++) {
+      if (i == endIndex || value.charAt(i) == delimiter) {
+        values.add(value.substring(start, i));
+        if (i != start) {
+          lastNonEmpty = values.size();
         }
+        start = i + 1;
       }
     }
+
+    return values.subList(0, lastNonEmpty);
   }
 }
@@ -3,11 +3,11 @@ package org.openapi4j.operation.validator.util.convert.style;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import org.openapi4j.core.util.MultiStringMap;
 import org.openapi4j.core.util.StringUtil;
+import org.openapi4j.operation.validator.util.ParameterPairs;
+import org.openapi4j.operation.validator.util.convert.SchemaType;
 import org.openapi4j.operation.validator.util.convert.TypeConverter;
 import org.openapi4j.parser.model.v3.AbsParameter;
-import org.openapi4j.parser.model.v3.Schema;
 
 import java.util.*;
 
@@ -23,28 +23,27 @@ public class FormStyleConverter {
     return INSTANCE;
   }
 
-  public JsonNode convert(AbsParameter<?> param, String paramName, MultiStringMap<String> paramPairs, List<String> visitedParams) {
+  public JsonNode convert(AbsParameter<?> param, SchemaType type, String paramName, ParameterPairs paramPairs, List<String> visitedParams) {
     if (paramPairs == null) {
       return null;
     }
 
     JsonNode result;
 
-    String type = param.getSchema().getSupposedType();
-    if (TYPE_ARRAY.equals(type)) {
-      result = getArrayValues(param, paramPairs.get(paramName));
+    if (TYPE_ARRAY.equals(type.getType())) {
+      result = getArrayValues(param, type, paramPairs.get(paramName));
       visitedParams.add(paramName);
-    } else if (TYPE_OBJECT.equals(type)) {
-      result = getObjectValues(param, paramName, paramPairs, visitedParams);
+    } else if (TYPE_OBJECT.equals(type.getType())) {
+      result = getObjectValues(param, type, paramName, paramPairs, visitedParams);
     } else {
-      result = getPrimitiveValue(param, paramPairs.get(paramName));
+      result = getPrimitiveValue(type, paramPairs.get(paramName));
       visitedParams.add(paramName);
     }
 
     return result;
   }
 
-  private JsonNode getArrayValues(AbsParameter<?> param, Collection<String> paramValues) {
+  private JsonNode getArrayValues(AbsParameter<?> param, SchemaType type, Collection<String> paramValues) {
     if (paramValues == null) {
       return null;
     }
@@ -58,26 +57,26 @@ public class FormStyleConverter {
       }
     }
 
-    return TypeConverter.instance().convertArray(param.getSchema().getItemsSchema(), values);
+    return TypeConverter.instance().arrayToNode(type.getItems(), values);
   }
 
-  private JsonNode getObjectValues(AbsParameter<?> param, String paramName, MultiStringMap<String> values, List<String> visitedParams) {
+  private JsonNode getObjectValues(AbsParameter<?> param, SchemaType type, String paramName, ParameterPairs values, List<String> visitedParams) {
     if (param.isExplode()) {
-      return getExplodedObjectValues(param, values, visitedParams);
+      return getExplodedObjectValues(type, values, visitedParams);
     } else {
-      return getNotExplodedObjectValues(param, paramName, values, visitedParams);
+      return getNotExplodedObjectValues(type, paramName, values, visitedParams);
     }
   }
 
-  private JsonNode getExplodedObjectValues(AbsParameter<?> param, MultiStringMap<String> values, List<String> visitedParams) {
+  private JsonNode getExplodedObjectValues(SchemaType type, ParameterPairs values, List<String> visitedParams) {
     ObjectNode result = JsonNodeFactory.instance.objectNode();
 
-    for (Map.Entry<String, Schema> propEntry : param.getSchema().getProperties().entrySet()) {
+    for (Map.Entry<String, SchemaType> propEntry : type.getProperties().entrySet()) {
       String propName = propEntry.getKey();
       Collection<String> paramValues = values.get(propName);
 
       if (paramValues != null) {
-        JsonNode value = TypeConverter.instance().convertPrimitive(
+        JsonNode value = TypeConverter.instance().primitiveToNode(
           propEntry.getValue(),
           paramValues.stream().findFirst().orElse(null));
 
@@ -90,7 +89,7 @@ public class FormStyleConverter {
     return result.size() != 0 ? result : null;
   }
 
-  private JsonNode getNotExplodedObjectValues(AbsParameter<?> param, String paramName, MultiStringMap<String> values, List<String> visitedParams) {
+  private JsonNode getNotExplodedObjectValues(SchemaType type, String paramName, ParameterPairs values, List<String> visitedParams) {
     Collection<String> paramValues = values.get(paramName);
     visitedParams.add(paramName);
 
@@ -110,19 +109,17 @@ public class FormStyleConverter {
     while (idx < arrayValues.size()) {
       String propName = arrayValues.get(idx++);
       String propValue = arrayValues.get(idx++);
-      Schema propSchema = param.getSchema().getProperty(propName);
-
-      result.set(propName, TypeConverter.instance().convertPrimitive(propSchema, propValue));
+      result.set(propName, TypeConverter.instance().primitiveToNode(type.getProperty(propName), propValue));
     }
 
     return result;
   }
 
-  private JsonNode getPrimitiveValue(AbsParameter<?> param, Collection<String> paramValues) {
+  private JsonNode getPrimitiveValue(SchemaType type, Collection<String> paramValues) {
     if (paramValues == null) {
       return null;
     }
 
-    return TypeConverter.instance().convertPrimitive(param.getSchema(), paramValues.stream().findFirst().orElse(null));
+    return TypeConverter.instance().primitiveToNode(type, paramValues.stream().findFirst().orElse(null));
   }
 }
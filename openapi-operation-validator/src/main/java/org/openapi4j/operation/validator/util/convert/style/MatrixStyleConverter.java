@@ -2,21 +2,20 @@ package org.openapi4j.operation.validator.util.convert.style;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
+import org.openapi4j.operation.validator.util.convert.SchemaType;
 import org.openapi4j.parser.model.v3.AbsParameter;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_ARRAY;
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_OBJECT;
 
 public class MatrixStyleConverter extends FlatStyleConverter {
-  private static final Pattern PREFIXED_SEMICOLON_NAME_REGEX = Pattern.compile("(?:;)([^;]+)(?:=)([^;]*)");
+  private static final char PREFIX = ';';
+  private static final char NAME_SEPARATOR = '=';
 
   private static final MatrixStyleConverter INSTANCE = new MatrixStyleConverter();
 
@@ -27,34 +26,37 @@ public class MatrixStyleConverter extends FlatStyleConverter {
   }
 
   @Override
-  public JsonNode convert(AbsParameter<?> param, String paramName, String rawValue) {
+  public JsonNode convert(AbsParameter<?> param, SchemaType type, String paramName, String rawValue) {
     if (rawValue == null) {
       return null;
     }
 
+    return convert(param, type, paramName, rawValue, 0, rawValue.length());
+  }
+
+  @Override
+  public JsonNode convert(AbsParameter<?> param, SchemaType type, String paramName, String value, int beginIndex, int endIndex) {
     final Map<String, Object> paramValues;
-    paramValues = getValues(param, paramName, rawValue, param.isExplode() ? ";" : ",");
+    paramValues = getValues(param, type, paramName, value, beginIndex, endIndex, param.isExplode() ? PREFIX : ',');
 
-    return convert(param, paramName, paramValues);
+    return convert(type, paramName, paramValues);
   }
 
-  private Map<String, Object> getValues(AbsParameter<?> param, String paramName, String rawValue, String splitPattern) {
-    String type = param.getSchema().getSupposedType();
-
-    if (TYPE_OBJECT.equals(type)) {
-      return getObjectValues(param, paramName, rawValue, splitPattern);
+  private Map<String, Object> getValues(AbsParameter<?> param, SchemaType type, String paramName, String value, int beginIndex, int endIndex, char delimiter) {
+    if (TYPE_OBJECT.equals(type.getType())) {
+      return getObjectValues(param, type, paramName, value, beginIndex, endIndex, delimiter);
     } else {
       Map<String, Object> values = new HashMap<>();
 
-      if (TYPE_ARRAY.equals(type)) {
-        List<String> arrayValues = getArrayValues(param, rawValue, splitPattern);
+      if (TYPE_ARRAY.equals(type.getType())) {
+        List<String> arrayValues = getArrayValues(param, value, beginIndex, endIndex, delimiter);
         if (arrayValues != null && !arrayValues.isEmpty()) {
           values.put(paramName, arrayValues);
         }
       } else {
-        Matcher matcher = PREFIXED_SEMICOLON_NAME_REGEX.matcher(rawValue);
-        if (matcher.matches()) {
-          values.put(matcher.group(1), matcher.group(2));
+        int separator = findSingleEntry(value, beginIndex, endIndex);
+        if (separator != -1) {
+          values.put(value.substring(beginIndex + 1, separator), value.substring(separator + 1, endIndex));
         }
       }
 
@@ -62,35 +64,84 @@ public class MatrixStyleConverter extends FlatStyleConverter {
     }
   }
 
-  private Map<String, Object> getObjectValues(AbsParameter<?> param, String paramName, String rawValue, String splitPattern) {
-    Matcher matcher = PREFIXED_SEMICOLON_NAME_REGEX.matcher(rawValue);
-
+  private Map<String, Object> getObjectValues(AbsParameter<?> param, SchemaType type, String paramName, String value, int beginIndex, int endIndex, char delimiter) {
     if (param.isExplode()) {
       Map<String, Object> values = new HashMap<>();
-      while (matcher.find()) {
-        values.put(matcher.group(1), matcher.group(2));
+      int start = beginIndex;
+      while ((start = value.indexOf(PREFIX, start)) != -1 && start < endIndex) {
+        int end = entryEnd(value, start, endIndex);
+        int separator = nameSeparator(value, start, end);
+        if (separator != -1) {
+          values.put(value.substring(start + 1, separator), value.substring(separator + 1, end));
+        }
+        start = end;
       }
       return values;
     } else {
-      return (matcher.find())
-        ? getParameterValues(param, paramName, matcher.group(2), splitPattern)
-        : null;
+      int start = beginIndex;
+      while ((start = value.indexOf(PREFIX, start)) != -1 && start < endIndex) {
+        int end = entryEnd(value, start, endIndex);
+        int separator = nameSeparator(value, start, end);
+        if (separator != -1) {
+          return getParameterValues(param, type, paramName, value, separator + 1, end, delimiter);
+        }
+        start = end;
+      }
+      return null;
     }
   }
 
-  private List<String> getArrayValues(AbsParameter<?> param, String rawValue, String splitPattern) {
-    Matcher matcher = PREFIXED_SEMICOLON_NAME_REGEX.matcher(rawValue);
-
+  private List<String> getArrayValues(AbsParameter<?> param, String value, int beginIndex, int endIndex, char delimiter) {
     if (param.isExplode()) {
       List<String> arrayValues = new ArrayList<>();
-      while (matcher.find()) {
-        arrayValues.add(matcher.group(2));
+      int start = beginIndex;
+      while ((start = value.indexOf(PREFIX, start)) != -1 && start < endIndex) {
+        int end = entryEnd(value, start, endIndex);
+        int separator = nameSeparator(value, start, end);
+        if (separator != -1) {
+          arrayValues.add(value.substring(separator + 1, end));
+        }
+        start = end;
       }
       return arrayValues;
     } else {
-      return matcher.matches()
-        ? Arrays.asList(matcher.group(2).split(splitPattern))
+      int separator = findSingleEntry(value, beginIndex, endIndex);
+      return separator != -1
+        ? split(value, separator + 1, endIndex, delimiter)
         : null;
     }
   }
+
+  /**
+   * Check that the whole region is a single ';name=value' entry.
+   *
+   * @return The index of the name separator or {@code -1} if the region is not a single entry.
+   */
+  private int findSingleEntry(String value, int beginIndex, int endIndex) {
+    if (beginIndex == endIndex || value.charAt(beginIndex) != PREFIX) {
+      return -1;
+    }
+
+    return entryEnd(value, beginIndex, endIndex) == endIndex
+      ? nameSeparator(value, beginIndex, endIndex)
+      : -1;
+  }
+
+  /**
+   * @return The end index (exclusive) of the entry starting with the prefix at the given index.
+   */
+  private int entryEnd(String value, int prefixIndex, int endIndex) {
+    int end = value.indexOf(PREFIX, prefixIndex + 1);
+    return (end == -1 || end > endIndex) ? endIndex : end;
+  }
+
+  /**
+   * Names can't be empty but can contain the separator, so the last one is taken.
+   *
+   * @return The index of the name separator or {@code -1} if none.
+   */
+  private int nameSeparator(String value, int prefixIndex, int end) {
+    int separator = value.lastIndexOf(NAME_SEPARATOR, end - 1);
+    return separator > prefixIndex + 1 ? separator : -1;
+  }
 }
@@ -2,6 +2,7 @@ package org.openapi4j.operation.validator.util.convert.style;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
+import org.openapi4j.operation.validator.util.convert.SchemaType;
 import org.openapi4j.parser.model.v3.AbsParameter;
 
 import java.util.Map;
@@ -16,10 +17,19 @@ public class SimpleStyleConverter extends FlatStyleConverter {
   }
 
   @Override
-  public JsonNode convert(AbsParameter<?> param, String paramName, String rawValue) {
+  public JsonNode convert(AbsParameter<?> param, SchemaType type, String paramName, String rawValue) {
+    if (rawValue == null) {
+      return null;
+    }
+
+    return convert(param, type, paramName, rawValue, 0, rawValue.length());
+  }
+
+  @Override
+  public JsonNode convert(AbsParameter<?> param, SchemaType type, String paramName, String value, int beginIndex, int endIndex) {
     final Map<String, Object> paramValues;
-    paramValues = getParameterValues(param, paramName, rawValue, ",");
+    paramValues = getParameterValues(param, type, paramName, value, beginIndex, endIndex, ',');
 
-    return convert(param, paramName, paramValues);
+    return convert(type, paramName, paramValues);
   }
 }
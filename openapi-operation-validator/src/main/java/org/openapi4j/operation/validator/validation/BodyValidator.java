@@ -1,13 +1,16 @@
 package org.openapi4j.operation.validator.validation;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.core.validation.ValidationResult;
 import org.openapi4j.operation.validator.model.impl.Body;
+import org.openapi4j.operation.validator.util.ContentType;
+import org.openapi4j.operation.validator.util.convert.ConversionPlan;
 import org.openapi4j.parser.model.v3.MediaType;
 import org.openapi4j.parser.model.v3.OpenApi3;
-import org.openapi4j.schema.validator.JsonValidator;
+import org.openapi4j.parser.model.v3.Schema;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 import org.openapi4j.schema.validator.v3.SchemaValidator;
@@ -25,14 +28,17 @@ class BodyValidator {
   private final ValidationContext<OAI3> context;
   private final OpenApi3 openApi;
   private final MediaType mediaType;
-  private final JsonValidator validator;
+  private final SchemaValidator validator;
+  // Conversion of form data & multipart content, compiled once from the media type
+  private final ConversionPlan formPlan;
 
-  BodyValidator(ValidationContext<OAI3> context, OpenApi3 openApi, MediaType mediaType) {
+  BodyValidator(ValidationContext<OAI3> context, OpenApi3 openApi, String contentType, MediaType mediaType) {
     this.context = context;
     this.openApi = openApi;
     this.mediaType = mediaType;
 
     validator = initValidator();
+    formPlan = (validator != null && isFormData(contentType)) ? ConversionPlan.forForm(mediaType) : null;
   }
 
   void validate(final Body body,
@@ -49,22 +55,66 @@ class BodyValidator {
       return;
     }
 
+    JsonNode convertedBody = body.getCachedContentAsNode(mediaType, rawContentType);
+    if (convertedBody != null) {
+      // Already converted by a previous consumer
+      validator.validate(convertedBody, validation);
+      return;
+    }
+
     try {
-      JsonNode jsonBody = body.getContentAsNode(mediaType, rawContentType);
+      if (validator.isStreamable()) {
+        try (JsonParser parser = body.getContentAsJsonParser(rawContentType)) {
+          if (parser != null) {
+            // Validate while reading, large arrays are not fully loaded.
+            // No tree is built, so there is no converted content to keep for further consumers.
+            validator.validate(parser, validation);
+            return;
+          }
+        }
+      }
+
+      // Schema needs the whole tree, the conversion is kept by the body
+      JsonNode jsonBody = body.getContentAsNode(mediaType, formPlan, rawContentType);
       validator.validate(jsonBody, validation);
     } catch (IOException ex) {
       validation.add(BODY_CONTENT_ERR, rawContentType, ex);
     }
   }
 
-  private JsonValidator initValidator() {
+  /**
+   * @return {@code true} if the content type is form data, multipart or a range including them.
+   */
+  private static boolean isFormData(final String contentType) {
+    String type = contentType.toLowerCase();
+    return ContentType.isFormUrlEncoded(type)
+      || ContentType.isMultipartFormData(type)
+      || type.startsWith("*/")
+      || type.startsWith("application/*")
+      || type.startsWith("multipart/*");
+  }
+
+  private SchemaValidator initValidator() {
     if (mediaType == null || mediaType.getSchema() == null) {
       return null;
     }
 
+    final Schema schema = mediaType.getSchema();
+    if (!schema.isRef()) {
+      return compileValidator(schema);
+    }
+
+    // Referenced schemas are compiled once for all operations & responses
+    return context.getCompiledValidator(
+      BODY + "@" + (schema.getCanonicalRef() != null ? schema.getCanonicalRef() : schema.getRef()),
+      SchemaValidator.class,
+      () -> compileValidator(schema));
+  }
+
+  private SchemaValidator compileValidator(final Schema schema) {
     return new SchemaValidator(
       context,
       BODY,
-      TreeUtil.json.convertValue(mediaType.getSchema().copy(openApi.getContext(), true), JsonNode.class));
+      TreeUtil.json.convertValue(schema.copy(openApi.getContext(), true), JsonNode.class));
   }
 }
@@ -0,0 +1,96 @@
+package org.openapi4j.operation.validator.validation;
+
+import org.openapi4j.operation.validator.model.impl.MediaTypeContainer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of values by content type, built once from the media types of the specification.
+ * <p>
+ * Exact types are looked up first, then wildcard types (i.e. image/*) by their major type.
+ * The values resolved from raw content type headers are cached, so the usual headers are not parsed again.
+ *
+ * @param <V> The type of the values.
+ */
+class ContentTypeIndex<V> {
+  // Content type header values can be anything, the cache stops growing when full
+  private static final int MAX_CACHE_SIZE = 16;
+
+  // Map<lower case type, definitions>, text types may be defined with different charsets
+  private final Map<String, List<Entry<V>>> exactTypes = new HashMap<>();
+  // Map<lower case major type, value>
+  private final Map<String, V> wildcardTypes = new HashMap<>();
+  // Map<raw content type, value>
+  private final Map<String, V> cache = new ConcurrentHashMap<>();
+
+  /**
+   * Add the value of the given content type from the specification.
+   *
+   * @param rawContentType The content type of the specification.
+   * @param value          The associated value.
+   */
+  void put(final String rawContentType, final V value) {
+    MediaTypeContainer definition = MediaTypeContainer.create(rawContentType);
+    if (definition == null) {
+      return;
+    }
+
+    if (definition.hasPlaceholder()) {
+      wildcardTypes.putIfAbsent(definition.getMajorType().toLowerCase(), value);
+    } else {
+      exactTypes
+        .computeIfAbsent(definition.getContentType().toLowerCase(), k -> new ArrayList<>(1))
+        .add(new Entry<>(definition, value));
+    }
+  }
+
+  /**
+   * @param rawContentType The raw content type of the request or response.
+   * @return The associated value or {@code null} if the content type is not allowed.
+   */
+  V get(final String rawContentType) {
+    if (rawContentType == null) {
+      return null;
+    }
+
+    V value = cache.get(rawContentType);
+    if (value != null) {
+      return value;
+    }
+
+    value = get(MediaTypeContainer.create(rawContentType));
+    if (value != null && cache.size() < MAX_CACHE_SIZE) {
+      cache.put(rawContentType, value);
+    }
+
+    return value;
+  }
+
+  private V get(final MediaTypeContainer contentType) {
+    List<Entry<V>> entries = exactTypes.get(contentType.getContentType().toLowerCase());
+    if (entries != null) {
+      for (Entry<V> entry : entries) {
+        if (entry.definition.match(contentType)) {
+          return entry.value;
+        }
+      }
+    }
+
+    String majorType = contentType.getMajorType();
+    return majorType != null ? wildcardTypes.get(majorType.toLowerCase()) : null;
+  }
+
+  private static final class Entry<V> {
+    private final MediaTypeContainer definition;
+    private final V value;
+
+    private Entry(MediaTypeContainer definition, V value) {
+      this.definition = definition;
+      this.value = value;
+    }
+  }
+}
@@ -2,19 +2,22 @@ package org.openapi4j.operation.validator.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.openapi4j.core.model.v3.OAI3;
+import org.openapi4j.core.validation.ValidationException;
 import org.openapi4j.core.validation.ValidationResult;
 import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.operation.validator.model.Request;
 import org.openapi4j.operation.validator.model.impl.Body;
-import org.openapi4j.operation.validator.model.impl.MediaTypeContainer;
+import org.openapi4j.operation.validator.model.impl.RequestParameters;
 import org.openapi4j.operation.validator.util.PathResolver;
+import org.openapi4j.operation.validator.util.PathRouter;
+import org.openapi4j.operation.validator.util.convert.ConversionPlan;
 import org.openapi4j.operation.validator.util.convert.ParameterConverter;
 import org.openapi4j.parser.model.v3.*;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -31,8 +34,11 @@ public class OperationValidator {
   private static final String OAI_REQUIRED_ERR_MSG = "OpenAPI is required.";
   private static final String PATH_REQUIRED_ERR_MSG = "Path is required.";
   private static final String OPERATION_REQUIRED_ERR_MSG = "Operation is required.";
+  private static final String REQUEST_REQUIRED_ERR_MSG = "Request is required.";
+  private static final String INVALID_REQUEST_ERR_MSG = "Invalid request.";
   private static final ValidationResult BODY_CONTENT_TYPE_ERR = new ValidationResult(ERROR, 202, "Body content type cannot be determined. No 'Content-Type' header available.");
   private static final ValidationResult BODY_WRONG_CONTENT_TYPE_ERR = new ValidationResult(ERROR, 203, "Content type '%s' is not allowed for body content.");
+  private static final ValidationResult PATH_MALFORMED_ERR = new ValidationResult(ERROR, 204, "Path is malformed from URL '%s'.");
   private static final ValidationResult PATH_NOT_FOUND_ERR = new ValidationResult(ERROR, 205, "Path template '%s' has not been found from value '%s'.");
 
   // Parameter specifics
@@ -47,17 +53,17 @@ public class OperationValidator {
   private final ParameterValidator<Parameter> specRequestQueryValidator;
   private final ParameterValidator<Parameter> specRequestHeaderValidator;
   private final ParameterValidator<Parameter> specRequestCookieValidator;
-  // Map<content type, validator>
-  private final Map<MediaTypeContainer, BodyValidator> specRequestBodyValidators;
-  // Map<status code, Map<content type, validator>>
-  private final Map<String, Map<MediaTypeContainer, BodyValidator>> specResponseBodyValidators;
+  // Index<content type, validator>
+  private final ContentTypeIndex<BodyValidator> specRequestBodyValidators;
+  // Map<status code, Index<content type, validator>>
+  private final Map<String, ContentTypeIndex<BodyValidator>> specResponseBodyValidators;
   // Map<status code, validator>
   private final Map<String, ParameterValidator<Header>> specResponseHeaderValidators;
   private final ValidationContext<OAI3> context;
   private final OpenApi3 openApi;
   private final Operation operation;
   private final String templatePath;
-  private final List<Pattern> pathPatterns;
+  private final PathRouter<Path> pathRouter;
 
   /**
    * Creates a validator for the given operation.
@@ -73,7 +79,7 @@ public class OperationValidator {
   /**
    * Creates a validator for the given operation.
    *
-   * @param context   The validation context for additional or changing behaviours.
+   * @param context   The validation context for additional or changing behaviours, frozen from now on.
    * @param openApi   The full Document Description where the Operation is located.
    * @param path      The Path of the Operation.
    * @param operation The Operation to validate.
@@ -83,25 +89,10 @@ public class OperationValidator {
                             final OpenApi3 openApi,
                             final Path path,
                             final Operation operation) {
-    this(context, null, openApi, path, operation);
-  }
-
-  /**
-   * Creates a validator for the given operation.
-   *
-   * @param context      The validation context for additional or changing behaviours.
-   * @param pathPatterns Pattern for the current path related to servers or OAI Document origin.
-   * @param openApi      The full Document Description where the Operation is located.
-   * @param path         The Path of the Operation.
-   * @param operation    The Operation to validate.
-   */
-  OperationValidator(final ValidationContext<OAI3> context,
-                     final List<Pattern> pathPatterns,
-                     final OpenApi3 openApi,
-                     final Path path,
-                     final Operation operation) {
 
     this.context = requireNonNull(context, VALIDATION_CTX_REQUIRED_ERR_MSG);
+    // Schema validators share references and compiled validators of the context
+    context.freeze();
     this.openApi = requireNonNull(openApi, OAI_REQUIRED_ERR_MSG);
     requireNonNull(operation, OPERATION_REQUIRED_ERR_MSG);
     this.templatePath = openApi.getPathFrom(requireNonNull(path, PATH_REQUIRED_ERR_MSG));
@@ -114,18 +105,15 @@ public class OperationValidator {
     mergePathToOperationParameters(path);
 
     // Request path parameters
-    specRequestPathValidator = createParameterValidator(IN_PATH);
-    this.pathPatterns
-      = pathPatterns == null
-      ? PathResolver.instance().buildPathPatterns(openApi.getContext(), openApi.getServers(), templatePath)
-      : pathPatterns;
+    specRequestPathValidator = createParameterValidator(IN_PATH, ConversionPlan::forPath);
+    pathRouter = createPathRouter(path);
 
     // Request query parameters
-    specRequestQueryValidator = createParameterValidator(IN_QUERY);
+    specRequestQueryValidator = createParameterValidator(IN_QUERY, ConversionPlan::forQuery);
     // Request header parameters
-    specRequestHeaderValidator = createParameterValidator(IN_HEADER);
+    specRequestHeaderValidator = createParameterValidator(IN_HEADER, ConversionPlan::forHeaders);
     // Request cookie parameters
-    specRequestCookieValidator = createParameterValidator(IN_COOKIE);
+    specRequestCookieValidator = createParameterValidator(IN_COOKIE, ConversionPlan::forCookies);
     // Request body
     specRequestBodyValidators = createRequestBodyValidators();
     // Response headers
@@ -138,6 +126,48 @@ public class OperationValidator {
     return operation;
   }
 
+  /**
+   * Validate the request against this operation.
+   *
+   * @param request    The request to validate. Path MUST MATCH exactly the pattern defined in specification.
+   * @param validation The validation results with your own data/delegates. Must be non {@code null}.
+   * @return The mapped parameters with their values.
+   * @throws ValidationException A validation report containing validation errors
+   */
+  public RequestParameters validate(final Request request, final ValidationData<?> validation) throws ValidationException {
+    requireNonNull(request, REQUEST_REQUIRED_ERR_MSG);
+
+    return validateRequest(request, validatePath(request, validation), validation);
+  }
+
+  /**
+   * Validate the request against this operation,
+   * the path has already been matched against the template of the operation (i.e. by a server router).
+   *
+   * @param request       The request to validate.
+   * @param rawPathValues The raw path parameter values, keyed by parameter name.
+   * @param validation    The validation results with your own data/delegates. Must be non {@code null}.
+   * @return The mapped parameters with their values.
+   * @throws ValidationException A validation report containing validation errors
+   */
+  public RequestParameters validate(final Request request,
+                                    final Map<String, String> rawPathValues,
+                                    final ValidationData<?> validation) throws ValidationException {
+
+    requireNonNull(request, REQUEST_REQUIRED_ERR_MSG);
+
+    return validateRequest(request, validatePath(rawPathValues, validation), validation);
+  }
+
+  RequestParameters validate(final Request request,
+                             final PathRouter.Match<?> pathMatch,
+                             final ValidationData<?> validation) throws ValidationException {
+
+    requireNonNull(request, REQUEST_REQUIRED_ERR_MSG);
+
+    return validateRequest(request, validatePath(pathMatch, validation), validation);
+  }
+
   /**
    * Validate path parameters from the given request.
    *
@@ -146,30 +176,56 @@ public class OperationValidator {
    * @return The mapped parameters with their values.
    */
   public Map<String, JsonNode> validatePath(final Request request, final ValidationData<?> validation) {
+    final String path;
+    try {
+      path = request.getPath();
+    } catch (IllegalArgumentException ex) {
+      validation.add(CRUMB_PATH, PATH_MALFORMED_ERR, request.getURL());
+      return null;
+    }
+
     // Check paths are matching before trying to map values
-    Pattern pathPattern = PathResolver.instance().findPathPattern(pathPatterns, request.getPath());
-    if (pathPattern == null) {
-      validation.add(CRUMB_PATH, PATH_NOT_FOUND_ERR, templatePath, request.getPath());
+    PathRouter.Match<Path> pathMatch = pathRouter.find(path);
+    if (pathMatch == null) {
+      validation.add(CRUMB_PATH, PATH_NOT_FOUND_ERR, templatePath, path);
       return null;
     }
 
-    return validatePath(request, pathPattern, validation);
+    return validatePath(pathMatch, validation);
   }
 
   /**
-   * Validate path parameters from the given request.
+   * Validate path parameters from an already resolved path.
    *
-   * @param request    The request to validate. Path MUST MATCH exactly the pattern defined in specification.
+   * @param pathMatch  The path resolution of the request.
+   * @param validation The validation data delegate and results.
+   * @return The mapped parameters with their values.
+   */
+  Map<String, JsonNode> validatePath(final PathRouter.Match<?> pathMatch, final ValidationData<?> validation) {
+    if (specRequestPathValidator == null) return null;
+
+    Map<String, JsonNode> mappedValues = ParameterConverter.pathToNode(
+      specRequestPathValidator.getConversionPlan(),
+      pathMatch);
+
+    specRequestPathValidator.validate(mappedValues, validation);
+
+    return mappedValues;
+  }
+
+  /**
+   * Validate path parameters from the values extracted from the path.
+   *
+   * @param rawValues  The raw parameter values, keyed by parameter name.
    * @param validation The validation data delegate and results.
    * @return The mapped parameters with their values.
    */
-  Map<String, JsonNode> validatePath(final Request request, Pattern pathPattern, final ValidationData<?> validation) {
+  Map<String, JsonNode> validatePath(final Map<String, String> rawValues, final ValidationData<?> validation) {
     if (specRequestPathValidator == null) return null;
 
     Map<String, JsonNode> mappedValues = ParameterConverter.pathToNode(
-      specRequestPathValidator.getParameters(),
-      pathPattern,
-      request.getPath());
+      specRequestPathValidator.getConversionPlan(),
+      rawValues);
 
     specRequestPathValidator.validate(mappedValues, validation);
 
@@ -187,7 +243,7 @@ public class OperationValidator {
     if (specRequestQueryValidator == null) return null;
 
     Map<String, JsonNode> mappedValues = ParameterConverter.queryToNode(
-      specRequestQueryValidator.getParameters(),
+      specRequestQueryValidator.getConversionPlan(),
       request.getQuery(),
       "UTF-8");
 
@@ -207,7 +263,7 @@ public class OperationValidator {
     if (specRequestHeaderValidator == null) return null;
 
     Map<String, JsonNode> mappedValues = ParameterConverter.headersToNode(
-      specRequestHeaderValidator.getParameters(),
+      specRequestHeaderValidator.getConversionPlan(),
       request.getHeaders());
 
     specRequestHeaderValidator.validate(mappedValues, validation);
@@ -226,7 +282,7 @@ public class OperationValidator {
     if (specRequestCookieValidator == null) return null;
 
     final Map<String, JsonNode> mappedValues = ParameterConverter.cookiesToNode(
-      specRequestCookieValidator.getParameters(),
+      specRequestCookieValidator.getConversionPlan(),
       request.getCookies());
 
     specRequestCookieValidator.validate(mappedValues, validation);
@@ -260,7 +316,7 @@ public class OperationValidator {
   public void validateBody(final org.openapi4j.operation.validator.model.Response response,
                            final ValidationData<?> validation) {
 
-    Map<MediaTypeContainer, BodyValidator> validators = getResponseValidator(specResponseBodyValidators, response);
+    ContentTypeIndex<BodyValidator> validators = getResponseValidator(specResponseBodyValidators, response);
 
     if (validators == null) return;
 
@@ -272,26 +328,18 @@ public class OperationValidator {
       validation);
   }
 
-  private void validateBody(final Map<MediaTypeContainer, BodyValidator> validators,
+  private void validateBody(final ContentTypeIndex<BodyValidator> validators,
                             final String rawContentType,
                             final Body body,
                             final boolean isRequired,
                             final ValidationData<?> validation) {
 
-    final MediaTypeContainer contentType = MediaTypeContainer.create(rawContentType);
-
-    if (contentType == null) {
+    if (rawContentType == null) {
       validation.add(BODY_CONTENT_TYPE_ERR);
       return;
     }
 
-    BodyValidator validator = null;
-    for (Map.Entry<MediaTypeContainer, BodyValidator> mediaType : validators.entrySet()) {
-      if (mediaType.getKey().match(contentType)) {
-        validator = mediaType.getValue();
-        break;
-      }
-    }
+    final BodyValidator validator = validators.get(rawContentType);
     if (validator == null) {
       validation.add(BODY_WRONG_CONTENT_TYPE_ERR, rawContentType);
       return;
@@ -317,13 +365,47 @@ public class OperationValidator {
     if (validator == null) return;
 
     Map<String, JsonNode> mappedValues = ParameterConverter.headersToNode(
-      validator.getParameters(),
+      validator.getConversionPlan(),
       response.getHeaders());
 
     validator.validate(mappedValues, validation);
   }
 
-  private ParameterValidator<Parameter> createParameterValidator(final String in) {
+  private RequestParameters validateRequest(final Request request,
+                                            final Map<String, JsonNode> pathParameters,
+                                            final ValidationData<?> validation) throws ValidationException {
+
+    final Map<String, JsonNode> queryParameters = validateQuery(request, validation);
+    final Map<String, JsonNode> headerParameters = validateHeaders(request, validation);
+    final Map<String, JsonNode> cookieParameters = validateCookies(request, validation);
+    validateBody(request, validation);
+
+    if (!validation.isValid()) {
+      throw new ValidationException(INVALID_REQUEST_ERR_MSG, validation.results());
+    }
+
+    return new RequestParameters(
+      pathParameters,
+      queryParameters,
+      headerParameters,
+      cookieParameters
+    );
+  }
+
+  private PathRouter<Path> createPathRouter(final Path path) {
+    PathRouter<Path> router = new PathRouter<>(
+      PathResolver.instance().getResolvedBasePaths(openApi.getContext(), openApi.getServers()));
+
+    // Path may not be part of the Document (i.e. referenced path item)
+    if (templatePath != null) {
+      router.add(templatePath, path);
+    }
+
+    return router;
+  }
+
+  private ParameterValidator<Parameter> createParameterValidator(final String in,
+                                                                 final Function<Map<String, AbsParameter<Parameter>>, ConversionPlan> planCompiler) {
     List<Parameter> specParameters = operation.getParametersIn(in);
 
     Map<String, AbsParameter<Parameter>> parameters = specParameters
@@ -332,11 +414,11 @@ public class OperationValidator {
 
     return
       parameters.size() != 0
-        ? new ParameterValidator<>(context, openApi, parameters)
+        ? new ParameterValidator<>(context, openApi, parameters, planCompiler.apply(parameters))
         : null;
   }
 
-  private Map<MediaTypeContainer, BodyValidator> createRequestBodyValidators() {
+  private ContentTypeIndex<BodyValidator> createRequestBodyValidators() {
     if (operation.getRequestBody() == null) {
       return null;
     }
@@ -344,12 +426,12 @@ public class OperationValidator {
     return createBodyValidators(operation.getRequestBody().getContentMediaTypes());
   }
 
-  private Map<String, Map<MediaTypeContainer, BodyValidator>> createResponseBodyValidators() {
+  private Map<String, ContentTypeIndex<BodyValidator>> createResponseBodyValidators() {
     if (operation.getResponses() == null) {
       return null;
     }
 
-    final Map<String, Map<MediaTypeContainer, BodyValidator>> validators = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    final Map<String, ContentTypeIndex<BodyValidator>> validators = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 
     final Map<String, Response> responses = operation.getResponses();
 
@@ -363,15 +445,15 @@ public class OperationValidator {
     return validators;
   }
 
-  private Map<MediaTypeContainer, BodyValidator> createBodyValidators(final Map<String, MediaType> mediaTypes) {
+  private ContentTypeIndex<BodyValidator> createBodyValidators(final Map<String, MediaType> mediaTypes) {
     if (mediaTypes == null) {
       return null;
     }
 
-    final Map<MediaTypeContainer, BodyValidator> validators = new HashMap<>();
+    final ContentTypeIndex<BodyValidator> validators = new ContentTypeIndex<>();
 
     for (Map.Entry<String, MediaType> entry : mediaTypes.entrySet()) {
-      validators.put(MediaTypeContainer.create(entry.getKey()), new BodyValidator(context, openApi, entry.getValue()));
+      validators.put(entry.getKey(), new BodyValidator(context, openApi, entry.getKey(), entry.getValue()));
     }
 
     return validators;
@@ -390,7 +472,7 @@ public class OperationValidator {
         if (response.getHeaders() != null) {
           Map<String, AbsParameter<Header>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
           headers.putAll(response.getHeaders());
-          validators.put(statusCode, new ParameterValidator<>(context, openApi, headers));
+          validators.put(statusCode, new ParameterValidator<>(context, openApi, headers, ConversionPlan.forHeaders(headers)));
         }
       }
     }
@@ -4,9 +4,11 @@ import com.fasterxml.jackson.databind.JsonNode;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.core.validation.ValidationResult;
+import org.openapi4j.operation.validator.util.convert.ConversionPlan;
 import org.openapi4j.parser.model.OpenApiSchema;
 import org.openapi4j.parser.model.v3.AbsParameter;
 import org.openapi4j.parser.model.v3.OpenApi3;
+import org.openapi4j.parser.model.v3.Schema;
 import org.openapi4j.schema.validator.JsonValidator;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
@@ -24,16 +26,21 @@ class ParameterValidator<M extends OpenApiSchema<M>> {
   private final OpenApi3 openApi;
   private final Map<String, JsonValidator> specValidators;
   private final Map<String, AbsParameter<M>> specParameters;
+  private final ConversionPlan conversionPlan;
 
-  ParameterValidator(ValidationContext<OAI3> context, OpenApi3 openApi, Map<String, AbsParameter<M>> specParameters) {
+  ParameterValidator(ValidationContext<OAI3> context,
+                     OpenApi3 openApi,
+                     Map<String, AbsParameter<M>> specParameters,
+                     ConversionPlan conversionPlan) {
     this.context = context;
     this.openApi = openApi;
     this.specParameters = specParameters;
+    this.conversionPlan = conversionPlan;
     specValidators = initValidators(specParameters);
   }
 
-  Map<String, AbsParameter<M>> getParameters() {
-    return specParameters;
+  ConversionPlan getConversionPlan() {
+    return conversionPlan;
   }
 
   void validate(final Map<String, JsonNode> values,
@@ -63,18 +70,32 @@ class ParameterValidator<M extends OpenApiSchema<M>> {
       AbsParameter<M> parameter = paramEntry.getValue();
 
       if (parameter.getSchema() != null) { // Schema is not mandatory
-        SchemaValidator validator = new SchemaValidator(
-          context,
-          paramName,
-          TreeUtil.json.convertValue(parameter.getSchema().copy(openApi.getContext(), true), JsonNode.class));
-
-        validators.put(paramName, validator);
+        validators.put(paramName, getValidator(paramName, parameter.getSchema()));
       }
     }
 
     return validators.size() != 0 ? validators : null;
   }
 
+  private SchemaValidator getValidator(final String paramName, final Schema schema) {
+    if (!schema.isRef()) {
+      return compileValidator(paramName, schema);
+    }
+
+    // Referenced schemas are compiled once for all parameters of the same name
+    return context.getCompiledValidator(
+      paramName + "@" + (schema.getCanonicalRef() != null ? schema.getCanonicalRef() : schema.getRef()),
+      SchemaValidator.class,
+      () -> compileValidator(paramName, schema));
+  }
+
+  private SchemaValidator compileValidator(final String paramName, final Schema schema) {
+    return new SchemaValidator(
+      context,
+      paramName,
+      TreeUtil.json.convertValue(schema.copy(openApi.getContext(), true), JsonNode.class));
+  }
+
   private boolean checkRequired(final String paramName,
                                 final AbsParameter<?> parameter,
                                 final Map<String, JsonNode> paramValues,
@@ -0,0 +1,53 @@
+package org.openapi4j.operation.validator.validation;
+
+import org.openapi4j.operation.validator.model.Request;
+import org.openapi4j.parser.model.v3.Operation;
+import org.openapi4j.parser.model.v3.Path;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Dispatch table of a Path, operations and their validators are indexed by HTTP method ordinal.
+ * Validators are set once compiled, so dispatch involves no string work nor hashing.
+ */
+class PathRoute {
+  private static final Request.Method[] METHODS = Request.Method.values();
+
+  private final Path path;
+  private final Operation[] operations;
+  private final AtomicReferenceArray<OperationValidator> validators;
+
+  PathRoute(Path path) {
+    this.path = path;
+    operations = new Operation[METHODS.length];
+    validators = new AtomicReferenceArray<>(METHODS.length);
+
+    for (Request.Method method : METHODS) {
+      operations[method.ordinal()] = path.getOperation(method.name().toLowerCase());
+    }
+  }
+
+  Path getPath() {
+    return path;
+  }
+
+  /**
+   * @param method The HTTP method.
+   * @return The operation for the given method or {@code null} if not defined.
+   */
+  Operation getOperation(Request.Method method) {
+    return operations[method.ordinal()];
+  }
+
+  /**
+   * @param method The HTTP method.
+   * @return The compiled validator for the given method or {@code null} if not compiled yet.
+   */
+  OperationValidator getValidator(Request.Method method) {
+    return validators.get(method.ordinal());
+  }
+
+  void setValidator(Request.Method method, OperationValidator validator) {
+    validators.lazySet(method.ordinal(), validator);
+  }
+}
@@ -1,24 +1,26 @@
 package org.openapi4j.operation.validator.validation;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.validation.ValidationException;
 import org.openapi4j.operation.validator.model.Request;
 import org.openapi4j.operation.validator.model.Response;
 import org.openapi4j.operation.validator.model.impl.RequestParameters;
+import org.openapi4j.operation.validator.util.LruCache;
 import org.openapi4j.operation.validator.util.PathResolver;
+import org.openapi4j.operation.validator.util.PathRouter;
 import org.openapi4j.parser.model.v3.OpenApi3;
 import org.openapi4j.parser.model.v3.Operation;
 import org.openapi4j.parser.model.v3.Path;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
+import java.util.concurrent.Executor;
 
 import static java.util.Objects.requireNonNull;
 
@@ -33,17 +35,19 @@ public class RequestValidator {
   private static final String PATHS_REQUIRED_ERR_MSG = "Paths Object is required in Document Description.";
   private static final String PATH_REQUIRED_ERR_MSG = "Path is required.";
   private static final String OPERATION_REQUIRED_ERR_MSG = "Operation is required.";
-  private static final String REQUEST_REQUIRED_ERR_MSG = "Request is required.";
+  private static final String EXECUTOR_REQUIRED_ERR_MSG = "Executor is required.";
   private static final String RESPONSE_REQUIRED_ERR_MSG = "Response is required.";
-  private static final String INVALID_REQUEST_ERR_MSG = "Invalid request.";
   private static final String INVALID_RESPONSE_ERR_MSG = "Invalid response.";
   private static final String INVALID_OP_ERR_MSG = "Operation not found from URL '%s' with method '%s'.";
   private static final String INVALID_OP_PATH_ERR_MSG = "Operation path not found from URL '%s'.";
+  private static final String MALFORMED_PATH_ERR_MSG = "Malformed path from URL '%s'.";
 
   private final OpenApi3 openApi;
   private final ValidationContext<OAI3> context;
   private final Map<Operation, OperationValidator> operationValidators;
-  private final Map<Pattern, Path> pathPatterns;
+  private final PathRouter<PathRoute> pathRouter;
+  // Resolved routes by concrete path, null if disabled
+  private final LruCache<String, PathRouter.Match<PathRoute>> routeCache;
 
   /**
    * Construct a new request validator with the given open API.
@@ -61,14 +65,31 @@ public class RequestValidator {
    * @param openApi The loaded open API model
    */
   public RequestValidator(final ValidationContext<OAI3> context, final OpenApi3 openApi) {
+    this(context, openApi, 0);
+  }
+
+  /**
+   * Construct a new request validator with the given open API.
+   * <p/>
+   * Route resolution of concrete paths can be cached to skip path matching
+   * for repeated requests, i.e. with high cardinality but hot paths like {@code /v1/tenants/acme/config}.
+   *
+   * @param context        The validation context to attach options and keyword overrides, frozen from now on.
+   * @param openApi        The loaded open API model
+   * @param routeCacheSize The maximum number of resolved routes to cache, {@code 0} to disable the cache.
+   */
+  public RequestValidator(final ValidationContext<OAI3> context, final OpenApi3 openApi, final int routeCacheSize) {
     requireNonNull(openApi, OAI_REQUIRED_ERR_MSG);
     requireNonNull(context, VALIDATION_CTX_REQUIRED_ERR_MSG);
     requireNonNull(openApi.getPaths(), PATHS_REQUIRED_ERR_MSG);
 
     this.openApi = openApi;
     this.context = context;
+    // Operation validators are built from any thread, i.e. on first request or when precompiling
+    context.freeze();
     this.operationValidators = new ConcurrentHashMap<>();
-    this.pathPatterns = buildPathPatterns();
+    this.pathRouter = buildPathRouter();
+    this.routeCache = routeCacheSize > 0 ? new LruCache<>(routeCacheSize) : null;
   }
 
   /**
@@ -84,16 +105,70 @@ public class RequestValidator {
 
     return operationValidators.computeIfAbsent(
       operation,
-      op -> {
-        // extract resolved path patterns for the given path
-        List<Pattern> patterns = new ArrayList<>();
-        for (Map.Entry<Pattern, Path> patternPathEntry : pathPatterns.entrySet()) {
-          if (patternPathEntry.getValue().equals(path)) {
-            patterns.add(patternPathEntry.getKey());
-          }
-        }
-        return new OperationValidator(context, patterns, openApi, path, op);
-      });
+      op -> new OperationValidator(context, openApi, path, op));
+  }
+
+  /**
+   * Compile all the operations of the Document up front instead of lazily on first use.
+   * <p/>
+   * Compilation of the operations is dispatched to the given executor and this method
+   * waits for all of them to complete.
+   * The validation context is frozen since construction, so the tasks only read it.
+   *
+   * @param executor The executor to run compilation tasks, i.e. a pool sized on available cores.
+   * @return The build time of each operation, keyed by uppercase method and path template (i.e. "GET /pets/{id}").
+   */
+  public Map<String, Duration> precompile(final Executor executor) {
+    requireNonNull(executor, EXECUTOR_REQUIRED_ERR_MSG);
+
+    final Map<String, CompletableFuture<Duration>> tasks = new LinkedHashMap<>();
+
+    for (Map.Entry<String, Path> pathEntry : openApi.getPaths().entrySet()) {
+      final Path path = pathEntry.getValue();
+      if (path.getOperations() == null) continue;
+
+      for (Map.Entry<String, Operation> opEntry : path.getOperations().entrySet()) {
+        final Operation operation = opEntry.getValue();
+
+        tasks.put(
+          opEntry.getKey().toUpperCase() + " " + pathEntry.getKey(),
+          CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            getValidator(path, operation);
+            return Duration.ofNanos(System.nanoTime() - start);
+          }, executor));
+      }
+    }
+
+    final Map<String, Duration> buildTimes = new LinkedHashMap<>();
+    try {
+      CompletableFuture.allOf(tasks.values().toArray(new CompletableFuture<?>[0])).join();
+
+      for (Map.Entry<String, CompletableFuture<Duration>> task : tasks.entrySet()) {
+        buildTimes.put(task.getKey(), task.getValue().join());
+      }
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+
+    return buildTimes;
+  }
+
+  /**
+   * @return The number of requests resolved from the route cache, {@code 0} if the cache is disabled.
+   */
+  public long getRouteCacheHits() {
+    return routeCache != null ? routeCache.getHits() : 0;
+  }
+
+  /**
+   * @return The number of requests not resolved from the route cache, {@code 0} if the cache is disabled.
+   */
+  public long getRouteCacheMisses() {
+    return routeCache != null ? routeCache.getMisses() : 0;
   }
 
   /**
@@ -119,18 +194,24 @@ public class RequestValidator {
    * @throws ValidationException A validation report containing validation errors
    */
   public RequestParameters validate(final Request request, final ValidationData<?> validation) throws ValidationException {
-    Pattern pathPattern = PathResolver.instance().findPathPattern(pathPatterns.keySet(), request.getPath());
-    if (pathPattern == null) {
+    final String path;
+    try {
+      path = request.getPath();
+    } catch (IllegalArgumentException ex) {
+      throw new ValidationException(String.format(MALFORMED_PATH_ERR_MSG, request.getURL()));
+    }
+
+    PathRouter.Match<PathRoute> pathMatch = findRoute(path);
+    if (pathMatch == null) {
       throw new ValidationException(String.format(INVALID_OP_PATH_ERR_MSG, request.getURL()));
     }
 
-    Path path = pathPatterns.get(pathPattern);
-    Operation operation = path.getOperation(request.getMethod().name().toLowerCase());
-    if (operation == null) {
+    OperationValidator opValidator = getValidator(pathMatch.getValue(), request.getMethod());
+    if (opValidator == null) {
       throw new ValidationException(String.format(INVALID_OP_ERR_MSG, request.getURL(), request.getMethod().name()));
     }
 
-    return validate(request, pathPattern, path, operation, validation);
+    return validate(request, pathMatch, opValidator, validation);
   }
 
   /**
@@ -144,7 +225,7 @@ public class RequestValidator {
   public RequestParameters validate(final Request request,
                                     final Path path,
                                     final Operation operation) throws ValidationException {
-    return validate(request, null, path, operation, new ValidationData<>());
+    return validate(request, null, getValidator(path, operation), new ValidationData<>());
   }
 
   /**
@@ -160,7 +241,7 @@ public class RequestValidator {
                                     final Path path,
                                     final Operation operation,
                                     final ValidationData<?> validation) throws ValidationException {
-    return validate(request, null, path, operation, validation);
+    return validate(request, null, getValidator(path, operation), validation);
   }
 
   /**
@@ -204,61 +285,79 @@ public class RequestValidator {
   }
 
   /**
-   * Validate the request against the given API operation
+   * Validate the request against the given API operation.
    *
    * @param request     The request to validate. Must be {@code nonnull}.
-   * @param pathPattern The path pattern for the current path operation.
-   * @param path        The OAS path. Must be {@code nonnull}.
-   * @param operation   OpenAPI operation. Must be {@code nonnull}.
+   * @param pathMatch   The path resolution of the request, if already done.
+   * @param opValidator The validator of the operation. Must be {@code nonnull}.
    * @param validation  The validation results with your own data/delegates. Must be non {@code null}.
    * @throws ValidationException A validation report containing validation errors
    */
   private RequestParameters validate(final Request request,
-                                     final Pattern pathPattern,
-                                     final Path path,
-                                     final Operation operation,
+                                     final PathRouter.Match<?> pathMatch,
+                                     final OperationValidator opValidator,
                                      final ValidationData<?> validation) throws ValidationException {
 
-    requireNonNull(request, REQUEST_REQUIRED_ERR_MSG);
+    return (pathMatch != null)
+      ? opValidator.validate(request, pathMatch, validation)
+      : opValidator.validate(request, validation);
+  }
 
-    final OperationValidator opValidator = getValidator(path, operation);
+  /**
+   * Find the route of the given path, from the route cache if enabled.
+   *
+   * @param path The path of the request.
+   * @return The route match or {@code null} if no route matches the path.
+   */
+  private PathRouter.Match<PathRoute> findRoute(final String path) {
+    if (routeCache == null || path == null) {
+      return pathRouter.find(path);
+    }
 
-    final Map<String, JsonNode> pathParameters
-      = (pathPattern != null)
-      ? opValidator.validatePath(request, pathPattern, validation)
-      : opValidator.validatePath(request, validation);
+    PathRouter.Match<PathRoute> pathMatch = routeCache.get(path);
+    if (pathMatch == null) {
+      pathMatch = pathRouter.find(path);
+      // Unknown paths are not cached to keep room for valid ones
+      if (pathMatch != null) {
+        routeCache.put(path, pathMatch);
+      }
+    }
 
-    final Map<String, JsonNode> queryParameters = opValidator.validateQuery(request, validation);
-    final Map<String, JsonNode> headerParameters = opValidator.validateHeaders(request, validation);
-    final Map<String, JsonNode> cookieParameters = opValidator.validateCookies(request, validation);
-    opValidator.validateBody(request, validation);
+    return pathMatch;
+  }
 
-    if (!validation.isValid()) {
-      throw new ValidationException(INVALID_REQUEST_ERR_MSG, validation.results());
+  /**
+   * Get the validator of the operation from the dispatch table of the route.
+   * The validator is compiled and set to the table on first access.
+   *
+   * @param route  The resolved route.
+   * @param method The HTTP method of the request.
+   * @return The validator or {@code null} if there's no operation for the given method.
+   */
+  private OperationValidator getValidator(final PathRoute route, final Request.Method method) {
+    OperationValidator opValidator = route.getValidator(method);
+
+    if (opValidator == null) {
+      Operation operation = route.getOperation(method);
+      if (operation == null) {
+        return null;
+      }
+
+      opValidator = getValidator(route.getPath(), operation);
+      route.setValidator(method, opValidator);
     }
 
-    return new RequestParameters(
-      pathParameters,
-      queryParameters,
-      headerParameters,
-      cookieParameters
-    );
+    return opValidator;
   }
 
-  private Map<Pattern, Path> buildPathPatterns() {
-    Map<Pattern, Path> patterns = new HashMap<>();
+  private PathRouter<PathRoute> buildPathRouter() {
+    PathRouter<PathRoute> router = new PathRouter<>(
+      PathResolver.instance().getResolvedBasePaths(openApi.getContext(), openApi.getServers()));
 
     for (Map.Entry<String, Path> pathEntry : openApi.getPaths().entrySet()) {
-      List<Pattern> builtPathPatterns = PathResolver.instance().buildPathPatterns(
-        openApi.getContext(),
-        openApi.getServers(),
-        pathEntry.getKey());
-
-      for (Pattern pathPattern : builtPathPatterns) {
-        patterns.put(pathPattern, pathEntry.getValue());
-      }
+      router.add(pathEntry.getKey(), new PathRoute(pathEntry.getValue()));
     }
 
-    return patterns;
+    return router;
   }
 }
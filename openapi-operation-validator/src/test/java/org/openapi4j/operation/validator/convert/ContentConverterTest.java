@@ -9,14 +9,21 @@ import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.operation.validator.OpenApi3Util;
 import org.openapi4j.operation.validator.util.ContentType;
 import org.openapi4j.operation.validator.util.convert.ContentConverter;
+import org.openapi4j.operation.validator.util.convert.ConversionPlan;
 import org.openapi4j.parser.model.v3.EncodingProperty;
 import org.openapi4j.parser.model.v3.MediaType;
 import org.openapi4j.parser.model.v3.OpenApi3;
 import org.skyscreamer.jsonassert.JSONAssert;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.*;
 
@@ -33,11 +40,97 @@ public class ContentConverterTest {
     check("/operation/contentType/formurl.json");
   }
 
+  @Test
+  public void testFormUrlEncodedSharedPlan() throws Exception {
+    MediaType mediaType = new MediaType().setSchema(api.getComponents().getSchemas().get("FooModel"));
+    ConversionPlan plan = ConversionPlan.forForm(mediaType);
+    String contentType = "application/x-www-form-urlencoded";
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<JsonNode>> results = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        String input = "fieldInt=" + i + "&fieldArray=1&fieldArray=" + i;
+        results.add(executor.submit(() -> ContentConverter.convert(mediaType, plan, contentType, null, input)));
+      }
+
+      for (int i = 0; i < results.size(); i++) {
+        JSONAssert.assertEquals(
+          "{\"fieldInt\": " + i + ", \"fieldArray\": [1, " + i + "]}",
+          results.get(i).get().toString(),
+          true);
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    // Same result without precompiled plan
+    assertEquals(
+      ContentConverter.convert(mediaType, plan, contentType, null, "fieldInt=1"),
+      ContentConverter.convert(mediaType, contentType, null, "fieldInt=1"));
+  }
+
   @Test
   public void testMultipart() throws Exception {
     check("/operation/contentType/multipart.json");
   }
 
+  @Test
+  public void testMultipartSizeLimits() throws Exception {
+    MediaType mediaType = new MediaType().setSchema(api.getComponents().getSchemas().get("multipartLimited"));
+    String contentType = "multipart/form-data;boundary=\"1234\"";
+
+    JsonNode actual = ContentConverter.convert(mediaType, contentType, null, multipart("12345678", "ab"));
+    assertEquals("ab", actual.get("name").textValue());
+    assertEquals("foo.bin", actual.get("file").textValue());
+
+    // Binary part limit
+    checkSizeError(mediaType, contentType, multipart("123456789", "ab"), "Part 'file'");
+    // Text part limit, 4 bytes per character
+    checkSizeError(mediaType, contentType, multipart("1", "12345678901234567"), "Part 'name'");
+    // Total limit, 16 + 8 bytes
+    checkSizeError(mediaType, contentType, multipart("12345678", "1234567890", "1234567890"), "Multipart content");
+  }
+
+  @Test
+  public void testMultipartUnknownParts() throws Exception {
+    String contentType = "multipart/form-data;boundary=\"1234\"";
+    String content = "--1234\r\nContent-Disposition: form-data; name=\"name\"\r\n\r\nab\r\n"
+      + "--1234\r\nContent-Disposition: form-data; name=\"other\"\r\n\r\n1234567890\r\n--1234--\r\n";
+
+    // Not allowed, content is not kept
+    MediaType mediaType = new MediaType().setSchema(api.getComponents().getSchemas().get("multipartClosed"));
+    JsonNode actual = ContentConverter.convert(mediaType, contentType, null, content);
+    assertEquals("ab", actual.get("name").textValue());
+    assertTrue(actual.get("other").isNull());
+
+    // Allowed, bounded by additional properties schema
+    mediaType = new MediaType().setSchema(api.getComponents().getSchemas().get("multipartOpenLimited"));
+    checkSizeError(mediaType, contentType, content, "Part 'other'");
+  }
+
+  @Test
+  public void testMultipartContentTypeParts() throws Exception {
+    String contentType = "multipart/form-data;boundary=\"1234\"";
+
+    // Mismatch with the encoding content type, bounded by the property
+    MediaType mediaType = new MediaType()
+      .setSchema(api.getComponents().getSchemas().get("multipartLimited"))
+      .setEncoding("name", new EncodingProperty().setContentType("text/plain"));
+    checkSizeError(mediaType, contentType, part("name", "application/json", "12345678901234567"), "Part 'name'");
+
+    // Converted with the given content type, bounded by the property
+    mediaType = new MediaType().setSchema(api.getComponents().getSchemas().get("multipartLimited"));
+    checkSizeError(mediaType, contentType, part("name", "application/xml", "12345678901234567"), "Part 'name'");
+
+    // Mismatch on a property which can't be a text, content is not kept
+    mediaType = new MediaType()
+      .setSchema(api.getComponents().getSchemas().get("multipartClosed"))
+      .setEncoding("count", new EncodingProperty().setContentType("text/plain"));
+    JsonNode actual = ContentConverter.convert(mediaType, contentType, null, part("count", "application/json", "1234"));
+    assertEquals("", actual.get("count").textValue());
+  }
+
   @Test
   public void testJson() throws Exception {
     check("/operation/contentType/json.json");
@@ -55,6 +148,33 @@ public class ContentConverterTest {
     assertTrue(ContentType.isMultipartFormData("multipart/mixed"));
     assertNull(ContentType.getCharSetOrNull(null));
     assertNull(ContentType.getCharSetOrNull("application/x-www-form-urlencoded; charset=foo"));
+    assertEquals(StandardCharsets.UTF_8, ContentType.getCharSetOrUtf8("application/json; charset=foo"));
+    assertEquals(StandardCharsets.ISO_8859_1, ContentType.getCharSetOrUtf8("text/plain; charset=ISO-8859-1"));
+  }
+
+  private String multipart(String file, String... names) {
+    StringBuilder content = new StringBuilder();
+    for (String name : names) {
+      content.append("--1234\r\nContent-Disposition: form-data; name=\"name\"\r\n\r\n").append(name).append("\r\n");
+    }
+    return content
+      .append("--1234\r\nContent-Disposition: form-data; name=\"file\"; filename=\"foo.bin\"\r\n")
+      .append("Content-Type: application/octet-stream\r\n\r\n").append(file).append("\r\n--1234--\r\n")
+      .toString();
+  }
+
+  private String part(String name, String partContentType, String value) {
+    return "--1234\r\nContent-Disposition: form-data; name=\"" + name + "\"\r\n"
+      + "Content-Type: " + partContentType + "\r\n\r\n" + value + "\r\n--1234--\r\n";
+  }
+
+  private void checkSizeError(MediaType mediaType, String contentType, String input, String message) {
+    try {
+      ContentConverter.convert(mediaType, contentType, null, input);
+      fail("Size limit is not enforced.");
+    } catch (IOException ex) {
+      assertTrue(ex.getMessage(), ex.getMessage().startsWith(message));
+    }
   }
 
   private void check(String testPath) throws Exception {
@@ -97,5 +217,16 @@ public class ContentConverterTest {
       expected,
       actual.toString(),
       true);
+
+    // With bytes, surrounded by unrelated content
+    byte[] content = input != null ? input.getBytes(ContentType.getCharSetOrUtf8(contentType)) : new byte[0];
+    byte[] bytes = new byte[content.length + 4];
+    System.arraycopy(content, 0, bytes, 2, content.length);
+    actual = ContentConverter.convert(mediaType, contentType, bytes, 2, content.length);
+    JSONAssert.assertEquals(
+      String.format("JSON matching test failed on test '%s'", description),
+      expected,
+      actual.toString(),
+      true);
   }
 }
@@ -5,10 +5,12 @@ import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 
 import org.junit.Test;
 import org.openapi4j.operation.validator.OpenApi3Util;
+import org.openapi4j.operation.validator.util.convert.ConversionPlan;
 import org.openapi4j.operation.validator.util.convert.ParameterConverter;
 import org.openapi4j.parser.model.v3.AbsParameter;
 import org.openapi4j.parser.model.v3.OpenApi3;
 import org.openapi4j.parser.model.v3.Parameter;
+import org.openapi4j.parser.model.v3.Schema;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -43,6 +45,24 @@ public class CookieParamConverterTest {
     check("content", "{\"boolProp\":true,\"stringProp\":\"admin\"}", "{\"boolProp\":\"wrong\"}", ParamChecker::checkObject, ParamChecker::checkWrongObject);
   }
 
+  @Test
+  public void cookieConversionDoesNotModifySpec() {
+    Parameter param = new Parameter().setName("id");
+    param.setSchema(new Schema().setType("integer"));
+
+    Map<String, AbsParameter<Parameter>> parameters = new HashMap<>();
+    parameters.put("id", param);
+    ConversionPlan plan = ConversionPlan.forCookies(parameters);
+
+    Map<String, String> values = new HashMap<>();
+    values.put("id", "5");
+
+    assertEquals(5, mapToNodes(parameters, values).get("id").intValue());
+    assertEquals(5, ParameterConverter.cookiesToNode(plan, values).get("id").intValue());
+    // explode default is resolved by the plan only
+    assertNull(param.getExplode());
+  }
+
   private void check(String parameterName,
                      String validValue,
                      String invalidValue,
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import org.junit.Test;
 import org.openapi4j.operation.validator.OpenApi3Util;
 import org.openapi4j.operation.validator.util.PathResolver;
+import org.openapi4j.operation.validator.util.PathRouter;
 import org.openapi4j.operation.validator.util.convert.ParameterConverter;
 import org.openapi4j.parser.model.v3.AbsParameter;
 import org.openapi4j.parser.model.v3.OpenApi3;
@@ -14,6 +15,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.openapi4j.operation.validator.convert.ParamChecker.checkArray;
@@ -157,11 +159,17 @@ public class PathParamConverterTest {
     Map<String, AbsParameter<Parameter>> parameters = new HashMap<>();
     parameters.put(parameterName, api.getComponents().getParameters().get(parameterName));
 
-    Pattern pattern = PathResolver.instance().solve("/" + parameterName + "/{" + parameterName + "}");
+    String templatePath = "/" + parameterName + "/{" + parameterName + "}";
+    String path = "/" + parameterName + "/" + value;
 
-    return ParameterConverter.pathToNode(
-      parameters,
-      pattern,
-      "/" + parameterName + "/" + value);
+    Pattern pattern = PathResolver.instance().solve(templatePath);
+    Map<String, JsonNode> nodes = ParameterConverter.pathToNode(parameters, pattern, path);
+
+    // Check conversion from path resolution offsets
+    PathRouter<String> router = new PathRouter<>();
+    router.add(templatePath, parameterName);
+    assertEquals(nodes, ParameterConverter.pathToNode(parameters, router.find(path)));
+
+    return nodes;
   }
 }
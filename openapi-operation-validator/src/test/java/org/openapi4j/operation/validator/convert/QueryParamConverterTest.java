@@ -13,6 +13,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.function.BiConsumer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
 public class QueryParamConverterTest {
@@ -144,6 +145,25 @@ public class QueryParamConverterTest {
       ParamChecker::checkWrongObject);
   }
 
+  @Test
+  public void queryDuplicatesInOrder() throws Exception {
+    OpenApi3 api = OpenApi3Util.loadApi("/operation/parameter/queryParameters.yaml");
+
+    Map<String, AbsParameter<Parameter>> parameters = new HashMap<>();
+    parameters.put("formExplodedArray", api.getComponents().getParameters().get("formExplodedArray"));
+
+    JsonNode values = mapToNodes(
+      parameters,
+      " formExplodedArray=5 && FORMEXPLODEDARRAY=3&formExplodedArray=%35&unknown=a+b&unknown=c").get("formExplodedArray");
+    assertEquals(3, values.size());
+    assertEquals(5, values.get(0).intValue());
+    assertEquals(3, values.get(1).intValue());
+    assertEquals(5, values.get(2).intValue());
+
+    // First value of unknown parameters
+    assertEquals("a b", mapToNodes(parameters, "unknown=a+b&unknown=c").get("unknown").textValue());
+  }
+
   protected void check(String parameterName,
                        String validValue,
                        String invalidValue,
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 
 import org.junit.Test;
+import org.openapi4j.operation.validator.util.convert.SchemaType;
 import org.openapi4j.operation.validator.util.convert.TypeConverter;
 import org.openapi4j.parser.model.v3.Schema;
 
@@ -15,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class TypeConverterTest {
   @Test
@@ -81,6 +83,27 @@ public class TypeConverterTest {
       TypeConverter.instance().convertObject(schema, foo).toString());
   }
 
+  @Test
+  public void convertRecursiveObject() {
+    Schema schema = new Schema().setType("object");
+    schema
+      .setProperty("id", new Schema().setType("integer").setFormat("int32"))
+      .setProperty("child", schema);
+
+    SchemaType schemaType = SchemaType.of(schema);
+    assertSame(schemaType, schemaType.getProperty("child"));
+
+    Map<String, Object> child = new HashMap<>();
+    child.put("id", "2");
+    Map<String, Object> root = new HashMap<>();
+    root.put("id", "1");
+    root.put("child", child);
+
+    assertEquals(
+      "{\"id\":1,\"child\":{\"id\":2}}",
+      TypeConverter.instance().objectToNode(schemaType, root).toString());
+  }
+
   @Test
   public void convertArrayNullNode() {
     // no schema
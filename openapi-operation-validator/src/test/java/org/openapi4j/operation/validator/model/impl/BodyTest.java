@@ -1,6 +1,8 @@
 package org.openapi4j.operation.validator.model.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 
 import org.junit.Test;
 import org.openapi4j.core.util.TreeUtil;
@@ -9,12 +11,18 @@ import org.openapi4j.parser.model.v3.Schema;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 public class BodyTest {
   @Test
@@ -68,6 +76,130 @@ public class BodyTest {
     checkBody(body, TreeUtil.json.readTree(new ByteArrayInputStream(values.getBytes())));
   }
 
+  @Test
+  public void fromBytes() throws Exception {
+    String values = "{\"key\":\"value\"}";
+    Body body = Body.from(values.getBytes(StandardCharsets.UTF_8));
+
+    checkBody(body, TreeUtil.json.readTree(values));
+  }
+
+  @Test
+  public void fromBytesRange() throws Exception {
+    String values = "{\"key\":\"vålue\"}";
+    byte[] bytes = ("xx" + values + "yy").getBytes(StandardCharsets.UTF_8);
+    int length = values.getBytes(StandardCharsets.UTF_8).length;
+
+    checkBody(Body.from(bytes, 2, length), TreeUtil.json.readTree(values));
+
+    // Charset is honoured
+    bytes = values.getBytes(StandardCharsets.ISO_8859_1);
+    assertEquals(
+      TreeUtil.json.readTree(values),
+      Body.from(bytes, 0, bytes.length).getContentAsNode(null, "application/json; charset=ISO-8859-1"));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void fromBytesOutOfBounds() {
+    Body.from(new byte[4], 2, 3);
+  }
+
+  @Test
+  public void fromByteBuffer() throws Exception {
+    String values = "{\"key\":\"value\"}";
+    byte[] bytes = ("xx" + values + "yy").getBytes(StandardCharsets.UTF_8);
+
+    // Heap buffer with offset
+    ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, values.length()).slice();
+    checkBody(Body.from(buffer), TreeUtil.json.readTree(values));
+    assertEquals(0, buffer.position());
+
+    // Direct buffer
+    buffer = ByteBuffer.allocateDirect(bytes.length);
+    buffer.put(bytes);
+    buffer.position(2);
+    buffer.limit(2 + values.length());
+    checkBody(Body.from(buffer), TreeUtil.json.readTree(values));
+    assertEquals(2, buffer.position());
+
+    // Non JSON content
+    assertEquals(
+      JsonNodeFactory.instance.textNode(values),
+      Body.from(ByteBuffer.wrap(bytes, 2, values.length())).getContentAsNode(null, "text/plain"));
+  }
+
+  @Test
+  public void fromObjectAsParser() throws Exception {
+    Map<String, Object> values = new HashMap<>();
+    values.put("key", "value");
+    values.put("amount", 1.5);
+    values.put("list", Arrays.asList(1, 2));
+
+    Body body = Body.from(values);
+    try (JsonParser parser = body.getContentAsJsonParser("application/xml")) {
+      assertEquals(TreeUtil.json.valueToTree(values), parser.readValueAsTree());
+    }
+    // Nothing converted
+    assertNull(body.getCachedContentAsNode(null, "application/json"));
+
+    // Object can be read again
+    try (JsonParser parser = body.getContentAsJsonParser("application/json")) {
+      assertEquals(TreeUtil.json.valueToTree(values), parser.readValueAsTree());
+    }
+    assertEquals(TreeUtil.json.valueToTree(values), body.getContentAsNode(null, "application/json"));
+  }
+
+  @Test(expected = IOException.class)
+  public void streamIsReadOnce() throws Exception {
+    String values = "{\"key\":\"value\"}";
+    Body body = Body.from(new ByteArrayInputStream(values.getBytes()));
+
+    try (JsonParser parser = body.getContentAsJsonParser("application/json")) {
+      assertEquals(TreeUtil.json.readTree(values), parser.readValueAsTree());
+    }
+    // Stream is not buffered
+    body.getContentAsNode(null, "application/json");
+  }
+
+  @Test
+  public void conversionIsCached() throws Exception {
+    String values = "{\"key\":\"value\"}";
+    MediaType mediaType = new MediaType().setSchema(new Schema());
+
+    // Stream can only be read once
+    Body body = Body.from(new ByteArrayInputStream(values.getBytes()));
+    assertNull(body.getCachedContentAsNode(mediaType, "application/json"));
+    JsonNode node = body.getContentAsNode(mediaType, "application/json");
+    assertSame(node, body.getContentAsNode(mediaType, "application/json"));
+    assertSame(node, body.getCachedContentAsNode(mediaType, "application/json"));
+    assertNull(body.getCachedContentAsNode(mediaType, "text/plain"));
+
+    // Other content type is converted again, both conversions are kept
+    body = Body.from(values);
+    node = body.getContentAsNode(mediaType, "application/json");
+    JsonNode textNode = body.getContentAsNode(mediaType, "text/plain");
+    assertEquals(JsonNodeFactory.instance.textNode(values), textNode);
+    assertNotSame(node, textNode);
+    assertSame(node, body.getContentAsNode(mediaType, "application/json"));
+    assertSame(textNode, body.getContentAsNode(mediaType, "text/plain"));
+
+    // JSON conversion doesn't depend on the media type
+    assertSame(node, body.getContentAsNode(null, "application/json"));
+
+    // Form conversion depends on the media type
+    body = Body.from("key=value");
+    node = body.getContentAsNode(mediaType, "application/x-www-form-urlencoded");
+    assertSame(node, body.getCachedContentAsNode(mediaType, "application/x-www-form-urlencoded"));
+    assertNull(body.getCachedContentAsNode(new MediaType().setSchema(new Schema()), "application/x-www-form-urlencoded"));
+
+    // Java objects are converted once whatever the media type
+    Map<String, String> map = new HashMap<>();
+    map.put("key", "value");
+    body = Body.from(map);
+    node = body.getContentAsNode(null, "application/json");
+    assertSame(node, body.getContentAsNode(mediaType, "application/xml"));
+  }
+
   private void checkBody(Body body, JsonNode values) throws IOException {
     Schema schema = new Schema();
     schema.setProperty("key", new Schema().setType("string"));
@@ -7,9 +7,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
 
 public class DefaultRequestTest {
   @Test
@@ -45,4 +47,47 @@ public class DefaultRequestTest {
     assertNull(rq.getHeaderValues("non_filled"));
     assertNull(rq.getHeaderValue("non_filled"));
   }
+
+  @Test
+  public void testRequestPath() {
+    Request rq = new DefaultRequest.Builder("http://localhost:8080/foo%20bar/baz?q=1", Request.Method.GET).build();
+    assertEquals("http://localhost:8080/foo%20bar/baz?q=1", rq.getURL());
+    assertEquals("/foo bar/baz", rq.getPath());
+
+    // Path already split by server, URL is built on demand
+    AtomicInteger urlCalls = new AtomicInteger();
+    rq = new DefaultRequest.Builder(Request.Method.GET, "/foo%20bar/a+b")
+      .url(() -> {
+        urlCalls.incrementAndGet();
+        return "http://localhost:8080/foo%20bar/a+b";
+      })
+      .build();
+
+    assertEquals("/foo bar/a+b", rq.getPath());
+    assertEquals(0, urlCalls.get());
+    assertEquals("http://localhost:8080/foo%20bar/a+b", rq.getURL());
+    assertEquals("http://localhost:8080/foo%20bar/a+b", rq.getURL());
+    assertEquals(1, urlCalls.get());
+
+    // Without URL, path is used
+    rq = new DefaultRequest.Builder(Request.Method.GET, "/foo").build();
+    assertEquals("/foo", rq.getPath());
+    assertEquals("/foo", rq.getURL());
+  }
+
+  @Test
+  public void testMalformedPath() {
+    checkMalformedPath(new DefaultRequest.Builder(Request.Method.GET, "/foo%zz").build());
+    checkMalformedPath(new DefaultRequest.Builder(Request.Method.GET, "/foo%2").build());
+    checkMalformedPath(new DefaultRequest.Builder("http://localhost:8080/foo%zz", Request.Method.GET).build());
+  }
+
+  private void checkMalformedPath(Request rq) {
+    try {
+      rq.getPath();
+      fail("Malformed path is not detected.");
+    } catch (IllegalArgumentException ignored) {
+      // expected
+    }
+  }
 }
@@ -0,0 +1,86 @@
+package org.openapi4j.operation.validator.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LruCacheTest {
+  @Test
+  public void eviction() {
+    LruCache<String, String> cache = new LruCache<>(1);
+    cache.put("a", "1");
+    cache.put("b", "2");
+
+    assertEquals(1, cache.size());
+    assertNull(cache.get("a"));
+    assertEquals("2", cache.get("b"));
+  }
+
+  @Test
+  public void leastRecentlyUsedIsEvicted() {
+    LruCache<Integer, Integer> cache = new LruCache<>(32);
+    for (int i = 0; i < 32; i++) {
+      cache.put(i, i);
+    }
+    assertEquals(32, cache.size());
+
+    // Access all entries except 0, so it is the eldest of its segment
+    for (int i = 1; i < 32; i++) {
+      cache.get(i);
+    }
+    for (int i = 32; i < 64; i++) {
+      cache.put(i, i);
+      assertTrue(cache.size() <= 32);
+    }
+
+    assertNull(cache.get(0));
+  }
+
+  @Test
+  public void stats() {
+    LruCache<String, String> cache = new LruCache<>(10);
+    cache.put("a", "1");
+
+    cache.get("a");
+    cache.get("a");
+    cache.get("b");
+
+    assertEquals(2, cache.getHits());
+    assertEquals(1, cache.getMisses());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void wrongSize() {
+    new LruCache<>(0);
+  }
+
+  @Test
+  public void concurrentAccess() throws InterruptedException {
+    LruCache<Integer, Integer> cache = new LruCache<>(100);
+
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      Thread thread = new Thread(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          int key = i % 150;
+          if (cache.get(key) == null) {
+            cache.put(key, key);
+          }
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertTrue(cache.size() <= 100);
+    assertEquals(40_000, cache.getHits() + cache.getMisses());
+  }
+}
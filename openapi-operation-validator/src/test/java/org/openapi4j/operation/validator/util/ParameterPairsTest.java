@@ -0,0 +1,54 @@
+package org.openapi4j.operation.validator.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ParameterPairsTest {
+  @Test
+  public void keepOrderAndDuplicates() {
+    ParameterPairs pairs = new ParameterPairs(true);
+    for (int i = 0; i < 20; i++) {
+      pairs.add("key" + (i % 2), Integer.toString(i % 3));
+    }
+    pairs.add("empty", null);
+
+    assertEquals(21, pairs.size());
+    assertEquals(Arrays.asList("0", "2", "1", "0", "2", "1", "0", "2", "1", "0"), pairs.get("key0"));
+    assertEquals(Collections.singletonList(null), pairs.get("empty"));
+    assertNull(pairs.get("KEY0"));
+    assertEquals(1, pairs.indexOf("key1"));
+    assertEquals("key1", pairs.getKey(1));
+    assertEquals("1", pairs.getValue(1));
+  }
+
+  @Test
+  public void caseInsensitive() {
+    ParameterPairs pairs = new ParameterPairs(false);
+    pairs.add("Key", "1");
+    pairs.add("other", "2");
+    pairs.add("KEY", "3");
+
+    assertFalse(pairs.isCaseSensitive());
+    assertEquals(Arrays.asList("1", "3"), pairs.get("key"));
+    assertTrue(pairs.containsKey("OTHER"));
+
+    pairs.remove("kEy");
+    assertEquals(1, pairs.size());
+    assertNull(pairs.get("key"));
+    assertEquals("other", pairs.getKey(0));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void outOfBounds() {
+    ParameterPairs pairs = new ParameterPairs(true);
+    pairs.add("key", "value");
+    pairs.getValue(1);
+  }
+}
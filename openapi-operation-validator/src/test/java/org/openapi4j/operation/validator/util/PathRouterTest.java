@@ -0,0 +1,186 @@
+package org.openapi4j.operation.validator.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PathRouterTest {
+  @Test
+  public void literalPaths() {
+    PathRouter<String> router = new PathRouter<>();
+    router.add("/", "root");
+    router.add("/health", "health");
+    router.add("/v1/orders/", "orders");
+
+    assertEquals("root", router.find("/").getValue());
+    assertEquals("root", router.find("").getValue());
+    assertEquals("root", router.find(null).getValue());
+    assertEquals("health", router.find("/health").getValue());
+    assertEquals("orders", router.find("/v1/orders/").getValue());
+    assertTrue(router.find("/health").getParameters().isEmpty());
+
+    assertNull(router.find("/v1/orders"));
+    assertNull(router.find("/v1"));
+    assertNull(router.find("/health/foo"));
+  }
+
+  @Test
+  public void templatedPaths() {
+    PathRouter<String> router = new PathRouter<>();
+    router.add("/fixed/{intPathParam}/fixed/{stringPathParam}/fixed/", "paramCheck");
+    router.add("/fixed/", "fixed");
+
+    PathRouter.Match<String> match = router.find("/fixed/1/fixed/2/fixed/");
+    assertEquals("paramCheck", match.getValue());
+    assertEquals("1", match.getParameters().get("intPathParam"));
+    assertEquals("2", match.getParameters().get("stringPathParam"));
+
+    // Empty values
+    match = router.find("/fixed/1/fixed//fixed/");
+    assertEquals("paramCheck", match.getValue());
+    assertEquals("", match.getParameters().get("stringPathParam"));
+
+    assertEquals("fixed", router.find("/fixed/").getValue());
+    assertNull(router.find("/fixed/fixed/2/fixed/"));
+  }
+
+  @Test
+  public void literalPrecedence() {
+    PathRouter<String> router = new PathRouter<>();
+    router.add("/users/{id}", "user");
+    router.add("/users/{id}.json", "userJson");
+    router.add("/users/me", "me");
+    router.add("/users/{id}/orders", "orders");
+    router.add("/users/me/settings", "settings");
+
+    assertEquals("me", router.find("/users/me").getValue());
+    assertEquals("user", router.find("/users/foo").getValue());
+    assertEquals("userJson", router.find("/users/foo.json").getValue());
+    assertEquals("foo", router.find("/users/foo.json").getParameters().get("id"));
+    assertEquals("settings", router.find("/users/me/settings").getValue());
+
+    // Literal branch fails in deeper segments, fallback to templated branch
+    PathRouter.Match<String> match = router.find("/users/me/orders");
+    assertEquals("orders", match.getValue());
+    assertEquals("me", match.getParameters().get("id"));
+  }
+
+  @Test
+  public void styledParameters() {
+    PathRouter<String> router = new PathRouter<>();
+    router.add("/label/{.id*}", "label");
+    router.add("/matrix/{;id}/{a}-{b}", "matrix");
+
+    assertEquals(".3.4.5", router.find("/label/.3.4.5").getParameters().get("id"));
+
+    PathRouter.Match<String> match = router.find("/matrix/;id=5/foo-bar");
+    assertEquals(";id=5", match.getParameters().get("id"));
+    assertEquals("foo", match.getParameters().get("a"));
+    assertEquals("bar", match.getParameters().get("b"));
+  }
+
+  @Test
+  public void parameterOffsets() {
+    PathRouter<String> router = new PathRouter<>(Arrays.asList("", "/v1/{version}"));
+    router.add("/users/{id}/{a}-{b}", "user");
+
+    PathRouter.Match<String> match = router.find("/v1/foo/users/12/x-yz");
+    assertEquals("/v1/foo/users/12/x-yz", match.getPath());
+    assertEquals(-1, match.getParameterIndex("version"));
+
+    int index = match.getParameterIndex("id");
+    assertEquals(14, match.getBeginIndex(index));
+    assertEquals(16, match.getEndIndex(index));
+
+    index = match.getParameterIndex("b");
+    assertEquals(19, match.getBeginIndex(index));
+    assertEquals(21, match.getEndIndex(index));
+  }
+
+  @Test
+  public void basePaths() {
+    PathRouter<String> router = new PathRouter<>(Arrays.asList("", "/v1", "/v2/{basePath}", "/v3/"));
+    router.add("/", "root");
+    router.add("/fixed/{id}", "fixed");
+    router.add("/v1/fixed/{id}", "v1fixed");
+
+    assertEquals("root", router.find("/").getValue());
+    assertEquals("root", router.find("/v1/").getValue());
+    assertEquals("root", router.find("/v2/foo/").getValue());
+    assertNull(router.find("/v1"));
+
+    PathRouter.Match<String> match = router.find("/v2/foo/fixed/1");
+    assertEquals("fixed", match.getValue());
+    assertEquals("1", match.getParameters().get("id"));
+    assertNull(match.getParameters().get("basePath"));
+
+    // Base path ending with separator
+    assertEquals("fixed", router.find("/v3//fixed/1").getValue());
+    assertNull(router.find("/v3/fixed/1"));
+
+    // Longest base path first, fallback to shorter ones
+    assertEquals("fixed", router.find("/v1/fixed/1").getValue());
+    assertEquals("v1fixed", router.find("/v1/v1/fixed/1").getValue());
+    assertEquals("fixed", router.find("/fixed/1").getValue());
+    assertNull(router.find("/v4/fixed/1"));
+  }
+
+  @Test
+  public void literalPathsWithBasePaths() {
+    PathRouter<String> router = new PathRouter<>(Arrays.asList("", "/v1", "/v2/{basePath}"));
+    router.add("/health", "health");
+    router.add("/v1/health", "v1health");
+    router.add("/orders/{id}", "order");
+    router.add("/orders/latest", "latest");
+
+    // Resolved from literal paths, without allocation
+    assertSame(router.find("/health"), router.find("/health"));
+    assertTrue(router.find("/health").getParameters().isEmpty());
+    assertEquals("health", router.find("/health").getValue());
+    assertEquals("latest", router.find("/v1/orders/latest").getValue());
+
+    // Longest base path first
+    assertEquals("health", router.find("/v1/health").getValue());
+    assertEquals("v1health", router.find("/v1/v1/health").getValue());
+
+    // Templated base path falls through the tree
+    assertEquals("health", router.find("/v2/foo/health").getValue());
+    assertEquals("latest", router.find("/v2/foo/orders/latest").getValue());
+    assertEquals("order", router.find("/v2/foo/orders/1").getValue());
+  }
+
+  @Test
+  public void literalPathsShadowedByLongerBasePath() {
+    PathRouter<String> router = new PathRouter<>(Arrays.asList("", "/v1"));
+    router.add("/v1/foo", "literal");
+    router.add("/{id}", "templated");
+
+    // Longer base path wins, as in the tree
+    PathRouter.Match<String> match = router.find("/v1/foo");
+    assertEquals("templated", match.getValue());
+    assertEquals("foo", match.getParameters().get("id"));
+    assertEquals("literal", router.find("/v1/v1/foo").getValue());
+
+    // Same with templated base path
+    router = new PathRouter<>(Arrays.asList("", "/v2/{basePath}"));
+    router.add("/v2/x/foo", "literal");
+    router.add("/{id}", "templated");
+    assertEquals("templated", router.find("/v2/x/foo").getValue());
+  }
+
+  @Test
+  public void firstRegisteredWins() {
+    PathRouter<String> router = new PathRouter<>();
+    router.add("/v1/{id}", "first");
+    router.add("/v1/{name}", "second");
+
+    PathRouter.Match<String> match = router.find("/v1/foo");
+    assertEquals("first", match.getValue());
+    assertEquals("foo", match.getParameters().get("id"));
+  }
+}
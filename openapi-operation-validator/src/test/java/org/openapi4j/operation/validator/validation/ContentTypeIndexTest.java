@@ -0,0 +1,55 @@
+package org.openapi4j.operation.validator.validation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ContentTypeIndexTest {
+  @Test
+  public void exactTypes() {
+    ContentTypeIndex<String> index = new ContentTypeIndex<>();
+    index.put("application/json", "json");
+    index.put("text/plain; charset=utf-8", "utf8");
+    index.put("text/plain; charset=utf-16", "utf16");
+
+    assertEquals("json", index.get("application/json"));
+    assertEquals("json", index.get("Application/JSON; charset=utf-8"));
+    assertEquals("utf8", index.get("text/plain; charset=UTF-8"));
+    assertEquals("utf16", index.get("text/plain; charset=UTF-16"));
+    assertNull(index.get("text/plain; charset=ISO-8859-1"));
+    assertNull(index.get("application/xml"));
+    assertNull(index.get(null));
+  }
+
+  @Test
+  public void wildcardTypes() {
+    ContentTypeIndex<String> index = new ContentTypeIndex<>();
+    index.put("image/*", "image");
+    index.put("image/png", "png");
+
+    // Exact type first
+    assertEquals("png", index.get("image/png"));
+    assertEquals("image", index.get("image/jpeg"));
+    assertEquals("image", index.get("IMAGE/gif"));
+    assertNull(index.get("text/plain"));
+    assertNull(index.get("image"));
+  }
+
+  @Test
+  public void cachedLookups() {
+    ContentTypeIndex<String> index = new ContentTypeIndex<>();
+    index.put("application/json", "json");
+
+    // Results must be the same from cache
+    for (int i = 0; i < 3; i++) {
+      assertEquals("json", index.get("application/json; charset=utf-8"));
+      assertNull(index.get("application/xml"));
+    }
+
+    // Unbounded header values
+    for (int i = 0; i < 100; i++) {
+      assertEquals("json", index.get("application/json; q=" + i));
+    }
+  }
+}
@@ -6,23 +6,31 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.openapi4j.core.exception.DecodeException;
 import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.core.validation.ValidationException;
 import org.openapi4j.operation.validator.model.Request;
 import org.openapi4j.operation.validator.model.Response;
 import org.openapi4j.operation.validator.model.impl.Body;
 import org.openapi4j.operation.validator.model.impl.DefaultRequest;
 import org.openapi4j.operation.validator.model.impl.DefaultResponse;
+import org.openapi4j.operation.validator.model.impl.RequestParameters;
 import org.openapi4j.parser.OpenApi3Parser;
 import org.openapi4j.parser.model.v3.OpenApi3;
 import org.openapi4j.parser.model.v3.Operation;
 import org.openapi4j.parser.model.v3.Path;
 import org.openapi4j.schema.validator.ValidationData;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.BiConsumer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.openapi4j.operation.validator.model.Request.Method.GET;
 import static org.openapi4j.operation.validator.model.Request.Method.POST;
 
@@ -52,6 +60,12 @@ public class OperationValidatorTest {
       val::validatePath,
       false);
 
+    // Malformed escape sequence
+    check(
+      new DefaultRequest.Builder(GET, "/fixed/1/fixed/%zz/fixed/").build(),
+      val::validatePath,
+      false);
+
     // wrong path
     check(
       new DefaultRequest.Builder("https://api.com/fixed/fixed/2/fixed/", GET).build(),
@@ -84,6 +98,37 @@ public class OperationValidatorTest {
       false);
   }
 
+  @Test
+  public void requestCheck() throws ValidationException {
+    OperationValidator val = loadOperationValidator("paramCheck");
+
+    Request rq = new DefaultRequest.Builder("https://api.com/fixed/1/fixed/2/fixed/", GET)
+      .query("boolQueryParam=true")
+      .header("pathStringHeaderParam", "foo")
+      .header("floatHeaderParam", "0.1")
+      .cookie("dtCookieParam", "1996-12-19T16:39:57-08:00")
+      .build();
+
+    RequestParameters rqParameters = val.validate(rq, new ValidationData<>());
+    assertEquals(JsonNodeFactory.instance.numberNode(1), rqParameters.getPathParameter("intPathParam"));
+    assertEquals(JsonNodeFactory.instance.textNode("2"), rqParameters.getPathParameter("stringPathParam"));
+
+    // Path values from server routing
+    Map<String, String> rawPathValues = new HashMap<>();
+    rawPathValues.put("intPathParam", "3");
+    rawPathValues.put("stringPathParam", "foo");
+    rqParameters = val.validate(rq, rawPathValues, new ValidationData<>());
+    assertEquals(JsonNodeFactory.instance.numberNode(3), rqParameters.getPathParameter("intPathParam"));
+    assertEquals(JsonNodeFactory.instance.textNode("foo"), rqParameters.getPathParameter("stringPathParam"));
+
+    rawPathValues.put("intPathParam", "foo");
+    try {
+      val.validate(rq, rawPathValues, new ValidationData<>());
+      fail("Validation should fail");
+    } catch (ValidationException ignored) {
+    }
+  }
+
   @Test
   public void queryCheck() {
     OperationValidator val = loadOperationValidator("paramCheck");
@@ -243,6 +288,21 @@ public class OperationValidatorTest {
       false);
   }
 
+  @Test
+  public void streamedBodyCanBeConverted() throws IOException {
+    OperationValidator val = loadOperationValidator("rqBodyCheck");
+
+    String content = "{\"paramInteger\": 1}";
+    Body body = Body.from(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    check(
+      new DefaultRequest.Builder("/foo", GET).header("Content-Type", "application/json").body(body).build(),
+      val::validateBody,
+      true);
+
+    // Schema can't be validated while reading, the stream has been converted and kept
+    assertEquals(TreeUtil.json.readTree(content), body.getContentAsNode(null, "application/json"));
+  }
+
   @Test
   public void discriminatorCheck() throws IOException {
     OperationValidator val = loadOperationValidator("discriminator");
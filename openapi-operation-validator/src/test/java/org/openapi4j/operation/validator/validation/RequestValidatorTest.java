@@ -2,14 +2,26 @@ package org.openapi4j.operation.validator.validation;
 
 import org.junit.Test;
 import org.openapi4j.core.exception.ResolutionException;
+import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.validation.ValidationException;
 import org.openapi4j.operation.validator.model.Request;
 import org.openapi4j.operation.validator.model.impl.DefaultRequest;
 import org.openapi4j.parser.OpenApi3Parser;
 import org.openapi4j.parser.model.v3.OpenApi3;
+import org.openapi4j.parser.model.v3.Operation;
+import org.openapi4j.parser.model.v3.Path;
+import org.openapi4j.schema.validator.ValidationContext;
 
 import java.net.URL;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.openapi4j.operation.validator.model.Request.Method.GET;
 import static org.openapi4j.operation.validator.model.Request.Method.POST;
@@ -42,6 +54,22 @@ public class RequestValidatorTest {
       requestValidator,
       new DefaultRequest.Builder("https://api.com/fixed/1/fixed//fixed/", GET).build(),
       true);
+
+    // operation is not defined for the method
+    check(
+      requestValidator,
+      new DefaultRequest.Builder("https://api.com/fixed/1/fixed/2/fixed/", POST).build(),
+      false);
+    check(
+      requestValidator,
+      new DefaultRequest.Builder("https://api.com/fixed/", GET).build(),
+      false);
+
+    // malformed escape sequence
+    check(
+      requestValidator,
+      new DefaultRequest.Builder(GET, "/fixed/1/fixed/%zz/fixed/").build(),
+      false);
   }
 
   @Test
@@ -82,6 +110,94 @@ public class RequestValidatorTest {
       true);
   }
 
+  @Test
+  public void precompile() throws ResolutionException, ValidationException {
+    URL specPath = RequestValidatorTest.class.getResource("/request/requestValidator.yaml");
+    OpenApi3 api = new OpenApi3Parser().parse(specPath, false);
+    ValidationContext<OAI3> context = new ValidationContext<>(api.getContext());
+    RequestValidator requestValidator = new RequestValidator(context, api);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    Map<String, Duration> buildTimes;
+    try {
+      buildTimes = requestValidator.precompile(executor);
+    } finally {
+      executor.shutdown();
+    }
+
+    assertTrue(context.isFrozen());
+    assertEquals(2, buildTimes.size());
+    assertTrue(buildTimes.containsKey("GET /fixed/{intPathParam}/fixed/{stringPathParam}/fixed/"));
+    assertTrue(buildTimes.containsKey("POST /fixed/"));
+    for (Map.Entry<String, Path> pathEntry : api.getPaths().entrySet()) {
+      if (pathEntry.getValue().getOperations() == null) continue;
+
+      for (Map.Entry<String, Operation> opEntry : pathEntry.getValue().getOperations().entrySet()) {
+        assertNotNull(buildTimes.get(opEntry.getKey().toUpperCase() + " " + pathEntry.getKey()));
+        // Validators are already compiled
+        assertSame(
+          requestValidator.getValidator(pathEntry.getValue(), opEntry.getValue()),
+          requestValidator.getValidator(pathEntry.getValue(), opEntry.getValue()));
+      }
+    }
+
+    check(
+      requestValidator,
+      new DefaultRequest.Builder("https://api.com/fixed/1/fixed/2/fixed/", GET).build(),
+      true);
+  }
+
+  @Test
+  public void routeCache() throws ResolutionException, ValidationException {
+    URL specPath = RequestValidatorTest.class.getResource("/request/requestValidator.yaml");
+    OpenApi3 api = new OpenApi3Parser().parse(specPath, false);
+    RequestValidator requestValidator = new RequestValidator(new ValidationContext<>(api.getContext()), api, 2);
+
+    check(
+      requestValidator,
+      new DefaultRequest.Builder("https://api.com/fixed/1/fixed/2/fixed/", GET).build(),
+      true);
+    assertEquals(0, requestValidator.getRouteCacheHits());
+    assertEquals(1, requestValidator.getRouteCacheMisses());
+
+    // Resolved from cache, parameters are still extracted
+    check(
+      requestValidator,
+      new DefaultRequest.Builder("https://api.com/fixed/1/fixed/2/fixed/", GET).build(),
+      true);
+    check(
+      requestValidator,
+      new DefaultRequest.Builder("https://api.com/fixed/1/fixed/2/fixed/", POST).build(),
+      false);
+    assertEquals(2, requestValidator.getRouteCacheHits());
+
+    // Unknown paths are not cached
+    check(
+      requestValidator,
+      new DefaultRequest.Builder("https://api.com/unknown", GET).build(),
+      false);
+    check(
+      requestValidator,
+      new DefaultRequest.Builder("https://api.com/unknown", GET).build(),
+      false);
+    assertEquals(2, requestValidator.getRouteCacheHits());
+    assertEquals(3, requestValidator.getRouteCacheMisses());
+
+    check(
+      requestValidator,
+      new DefaultRequest.Builder("https://api.com/fixed/string/fixed/2/fixed/", GET).build(),
+      false);
+    assertEquals(2, requestValidator.getRouteCacheHits());
+
+    // Disabled by default
+    requestValidator = new RequestValidator(api);
+    check(
+      requestValidator,
+      new DefaultRequest.Builder("https://api.com/fixed/1/fixed/2/fixed/", GET).build(),
+      true);
+    assertEquals(0, requestValidator.getRouteCacheMisses());
+  }
+
   private void check(RequestValidator requestValidator, Request rq, boolean shouldBeValid) {
     try {
       requestValidator.validate(rq);
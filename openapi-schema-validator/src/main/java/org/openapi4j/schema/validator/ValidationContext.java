@@ -7,19 +7,34 @@ import org.openapi4j.schema.validator.v3.ValidatorInstance;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Validation context and option bag.
+ * <p>
+ * Validators can be built concurrently from the same context.
+ * Once setup is done, the context is frozen to share it safely as a read-only context.
+ * Request and operation validators freeze the context they are built with.
  *
  * @param <O> The Open API version type.
  */
 @SuppressWarnings("UnusedReturnValue")
 public class ValidationContext<O extends OAI> {
+  private static final String FROZEN_ERR_MSG = "Validation context is frozen.";
+
   private final OAIContext context;
-  private final Map<String, JsonValidator> visitedRefs = new HashMap<>();
-  private final Map<Byte, Boolean> defaultOptions = new HashMap<>();
+  // Complete reference validators, shared by validators compiled concurrently (see operation validators precompilation)
+  private final Map<String, JsonValidator> visitedRefs = new ConcurrentHashMap<>();
+  // Reference validators under construction by thread, published when complete.
+  // Threads have an entry only while building references.
+  private final Map<Thread, Map<String, JsonValidator>> pendingRefs = new ConcurrentHashMap<>();
+  // Compiled validators shared by all schemas of the same key (i.e. same reference)
+  private final Map<String, JsonValidator> compiledValidators = new ConcurrentHashMap<>();
+  private final Map<Byte, Boolean> defaultOptions = new ConcurrentHashMap<>();
   private final MultiStringMap<ValidatorInstance> additionalValidators = new MultiStringMap<>(true, true);
-  private boolean isFastFail;
+  private volatile boolean isFastFail;
+  private volatile boolean isFrozen;
 
   public ValidationContext(OAIContext context) {
     this.context = context;
@@ -44,19 +59,39 @@ public class ValidationContext<O extends OAI> {
    * @param fastFail {@code true} for fast failing.
    */
   public ValidationContext<O> setFastFail(boolean fastFail) {
+    checkNotFrozen();
     isFastFail = fastFail;
     return this;
   }
 
+  /**
+   * Freeze the context, options and additional validators can't be changed anymore.
+   * The context can then be shared safely by validators of any thread.
+   *
+   * @return this.
+   */
+  public ValidationContext<O> freeze() {
+    isFrozen = true;
+    return this;
+  }
+
+  /**
+   * @return {@code true} if the context is frozen.
+   */
+  public boolean isFrozen() {
+    return isFrozen;
+  }
+
   /**
    * Add a reference to avoid looping.
+   * The reference is only visible to the current thread until published.
    * This is internally used, you should not call this directly.
    *
    * @param ref       The reference expression.
-   * @param validator The associated validator.
+   * @param validator The associated validator, may be under construction.
    */
   public ValidationContext<O> addReference(String ref, JsonValidator validator) {
-    visitedRefs.put(ref, validator);
+    pendingRefs.computeIfAbsent(Thread.currentThread(), thread -> new HashMap<>()).put(ref, validator);
     return this;
   }
 
@@ -68,10 +103,67 @@ public class ValidationContext<O extends OAI> {
    * @return The associated validator.
    */
   public JsonValidator getReference(String ref) {
-    return visitedRefs.get(ref);
+    JsonValidator validator = visitedRefs.get(ref);
+    if (validator != null) {
+      return validator;
+    }
+
+    Map<String, JsonValidator> pending = pendingRefs.get(Thread.currentThread());
+    return (pending != null) ? pending.get(ref) : null;
+  }
+
+  /**
+   * @return {@code true} if the current thread has references under construction.
+   * This is internally used, you should not call this directly.
+   */
+  public boolean hasPendingReferences() {
+    return pendingRefs.containsKey(Thread.currentThread());
+  }
+
+  /**
+   * Share the references added by the current thread, all of them must be complete.
+   * References already published by another thread are kept.
+   * This is internally used, you should not call this directly.
+   */
+  public void publishReferences() {
+    Map<String, JsonValidator> pending = pendingRefs.remove(Thread.currentThread());
+    if (pending != null) {
+      pending.forEach(visitedRefs::putIfAbsent);
+    }
+  }
+
+  /**
+   * Drop the references added by the current thread (i.e. on construction failure).
+   * This is internally used, you should not call this directly.
+   */
+  public void discardReferences() {
+    pendingRefs.remove(Thread.currentThread());
+  }
+
+  /**
+   * Get the validator compiled for the given key, the validator is compiled and shared if not already done.
+   * This is internally used, you should not call this directly.
+   *
+   * @param key      The key of the validator (i.e. property name and schema reference).
+   * @param type     The type of the validator, must be the same for all the validators of the key.
+   * @param compiler The compilation of the validator.
+   * @return The shared validator.
+   */
+  public <V extends JsonValidator> V getCompiledValidator(String key, Class<V> type, Supplier<V> compiler) {
+    JsonValidator validator = compiledValidators.get(key);
+    if (validator == null) {
+      // Compiled outside of the map, concurrent compilations keep the first one
+      JsonValidator previous = compiledValidators.putIfAbsent(key, validator = compiler.get());
+      if (previous != null) {
+        validator = previous;
+      }
+    }
+
+    return type.cast(validator);
   }
 
   public ValidationContext<O> setOption(byte option, boolean value) {
+    checkNotFrozen();
     defaultOptions.put(option, value);
     return this;
   }
@@ -102,7 +194,14 @@ public class ValidationContext<O extends OAI> {
    * @return this.
    */
   public ValidationContext<O> addValidator(String keyword, ValidatorInstance validatorInstantiation) {
+    checkNotFrozen();
     additionalValidators.put(keyword, validatorInstantiation);
     return this;
   }
+
+  private void checkNotFrozen() {
+    if (isFrozen) {
+      throw new IllegalStateException(FROZEN_ERR_MSG);
+    }
+  }
 }
@@ -1,6 +1,7 @@
 package org.openapi4j.schema.validator.v3;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.model.v3.OAI3SchemaKeywords;
 import org.openapi4j.core.validation.ValidationResult;
@@ -25,7 +26,7 @@ import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
  * <p/>
  * <a href="https://tools.ietf.org/html/draft-wright-json-schema-validation-00#page-10" />
  */
-class AdditionalPropertiesValidator extends BaseJsonValidator<OAI3> {
+class AdditionalPropertiesValidator extends BaseJsonValidator<OAI3> implements TypedValidator {
   private static final ValidationResult ERR = new ValidationResult(ERROR, 1000, "Additional property '%s' is not allowed.");
 
   private static final ValidationResults.CrumbInfo CRUMB_INFO = new ValidationResults.CrumbInfo(ADDITIONALPROPERTIES, true);
@@ -59,6 +60,11 @@ class AdditionalPropertiesValidator extends BaseJsonValidator<OAI3> {
     }
   }
 
+  @Override
+  public boolean appliesTo(final JsonNodeType nodeType) {
+    return nodeType == JsonNodeType.OBJECT;
+  }
+
   @Override
   public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
     if (Boolean.TRUE.equals(additionalPropertiesAllowed)) return false;
@@ -1,6 +1,7 @@
 package org.openapi4j.schema.validator.v3;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.validation.ValidationException;
 import org.openapi4j.core.validation.ValidationResult;
@@ -21,7 +22,7 @@ import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
  * <p/>
  * <a href="https://tools.ietf.org/html/draft-wright-json-schema-validation-00#page-10" />
  */
-class DependenciesValidator extends BaseJsonValidator<OAI3> {
+class DependenciesValidator extends BaseJsonValidator<OAI3> implements TypedValidator {
   private static final ValidationResult ERR = new ValidationResult(ERROR, 1002, "Missing dependency '%s' from '%s' definition.");
 
   private static final ValidationResults.CrumbInfo CRUMB_INFO = new ValidationResults.CrumbInfo(DEPENDENCIES, true);
@@ -53,6 +54,11 @@ class DependenciesValidator extends BaseJsonValidator<OAI3> {
     }
   }
 
+  @Override
+  public boolean appliesTo(final JsonNodeType nodeType) {
+    return nodeType == JsonNodeType.OBJECT;
+  }
+
   @Override
   public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
     final Iterator<String> fieldNames = valueNode.fieldNames();
@@ -1,6 +1,7 @@
 package org.openapi4j.schema.validator.v3;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.BaseJsonValidator;
@@ -16,7 +17,7 @@ import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.ITEMS;
  * <p/>
  * <a href="https://tools.ietf.org/html/draft-wright-json-schema-validation-00#page-7" />
  */
-class ItemsValidator extends BaseJsonValidator<OAI3> {
+class ItemsValidator extends BaseJsonValidator<OAI3> implements TypedValidator {
   private static final ValidationResults.CrumbInfo CRUMB_INFO = new ValidationResults.CrumbInfo(ITEMS, true);
   private final SchemaValidator schema;
 
@@ -27,11 +28,12 @@ class ItemsValidator extends BaseJsonValidator<OAI3> {
   }
 
   @Override
-  public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
-    if (!valueNode.isArray()) {
-      return false;
-    }
+  public boolean appliesTo(final JsonNodeType nodeType) {
+    return nodeType == JsonNodeType.ARRAY;
+  }
 
+  @Override
+  public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
     for (int idx = 0; idx < valueNode.size(); ++idx) {
       JsonNode itemNode = valueNode.get(idx);
 
@@ -46,4 +48,8 @@ class ItemsValidator extends BaseJsonValidator<OAI3> {
 
     return false;
   }
+
+  SchemaValidator getSchema() {
+    return schema;
+  }
 }
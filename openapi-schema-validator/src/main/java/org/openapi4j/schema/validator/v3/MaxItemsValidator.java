@@ -1,6 +1,7 @@
 package org.openapi4j.schema.validator.v3;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.validation.ValidationResult;
 import org.openapi4j.core.validation.ValidationResults;
@@ -18,7 +19,7 @@ import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
  * <p/>
  * <a href="https://tools.ietf.org/html/draft-wright-json-schema-validation-00#page-8" />
  */
-class MaxItemsValidator extends BaseJsonValidator<OAI3> {
+class MaxItemsValidator extends BaseJsonValidator<OAI3> implements TypedValidator {
   private static final ValidationResult ERR = new ValidationResult(ERROR, 1011, "Max items is '%s', found '%s'.");
 
   private static final ValidationResults.CrumbInfo CRUMB_INFO = new ValidationResults.CrumbInfo(MAXITEMS, true);
@@ -34,16 +35,25 @@ class MaxItemsValidator extends BaseJsonValidator<OAI3> {
       : null;
   }
 
+  @Override
+  public boolean appliesTo(final JsonNodeType nodeType) {
+    return nodeType == JsonNodeType.ARRAY;
+  }
+
   @Override
   public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
-    if (max == null || !valueNode.isArray()) {
+    if (max == null) {
       return false;
     }
 
-    if (valueNode.size() > max) {
-      validation.add(CRUMB_INFO, ERR, max, valueNode.size());
-    }
+    validateSize(valueNode.size(), validation);
 
     return false;
   }
+
+  void validateSize(final int size, final ValidationData<?> validation) {
+    if (max != null && size > max) {
+      validation.add(CRUMB_INFO, ERR, max, size);
+    }
+  }
 }
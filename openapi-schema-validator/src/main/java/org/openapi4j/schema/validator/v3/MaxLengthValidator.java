@@ -1,6 +1,7 @@
 package org.openapi4j.schema.validator.v3;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.validation.ValidationResult;
 import org.openapi4j.core.validation.ValidationResults;
@@ -18,7 +19,7 @@ import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
  * <p/>
  * <a href="https://tools.ietf.org/html/draft-wright-json-schema-validation-00#page-7" />
  */
-class MaxLengthValidator extends BaseJsonValidator<OAI3> {
+class MaxLengthValidator extends BaseJsonValidator<OAI3> implements TypedValidator {
   private static final ValidationResult ERR = new ValidationResult(ERROR, 1012, "Max length is '%s', found '%s'.");
 
   private static final ValidationResults.CrumbInfo CRUMB_INFO = new ValidationResults.CrumbInfo(MAXLENGTH, true);
@@ -34,9 +35,14 @@ class MaxLengthValidator extends BaseJsonValidator<OAI3> {
       : null;
   }
 
+  @Override
+  public boolean appliesTo(final JsonNodeType nodeType) {
+    return nodeType == JsonNodeType.STRING;
+  }
+
   @Override
   public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
-    if (maxLength == null || !valueNode.isTextual()) {
+    if (maxLength == null) {
       return false;
     }
 
@@ -1,6 +1,7 @@
 package org.openapi4j.schema.validator.v3;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.BaseJsonValidator;
@@ -20,7 +21,7 @@ import java.util.regex.Pattern;
  * <p/>
  * <a href="https://tools.ietf.org/html/draft-wright-json-schema-validation-00#page-9" />
  */
-class PatternPropertiesValidator extends BaseJsonValidator<OAI3> {
+class PatternPropertiesValidator extends BaseJsonValidator<OAI3> implements TypedValidator {
   private final Map<Pattern, SchemaValidator> schemas = new IdentityHashMap<>();
 
   PatternPropertiesValidator(final ValidationContext<OAI3> context, final JsonNode schemaNode, final JsonNode schemaParentNode, final SchemaValidator parentSchema) {
@@ -34,11 +35,12 @@ class PatternPropertiesValidator extends BaseJsonValidator<OAI3> {
   }
 
   @Override
-  public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
-    if (!valueNode.isObject()) {
-      return false;
-    }
+  public boolean appliesTo(final JsonNodeType nodeType) {
+    return nodeType == JsonNodeType.OBJECT;
+  }
 
+  @Override
+  public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
     final Iterator<String> names = valueNode.fieldNames();
 
     validate(() -> {
@@ -1,6 +1,7 @@
 package org.openapi4j.schema.validator.v3;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.validation.ValidationResult;
 import org.openapi4j.core.validation.ValidationResults;
@@ -21,7 +22,7 @@ import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
  * <p/>
  * <a href="https://tools.ietf.org/html/draft-wright-json-schema-validation-00#page-7" />
  */
-class PatternValidator extends BaseJsonValidator<OAI3> {
+class PatternValidator extends BaseJsonValidator<OAI3> implements TypedValidator {
   private static final ValidationResult PATTERN_DEF_ERR = new ValidationResult(ERROR, 1024, "Wrong pattern definition '%s'.");
   private static final ValidationResult ERR = new ValidationResult(ERROR, 1025, "'%s' does not respect pattern '%s'.");
 
@@ -37,13 +38,17 @@ class PatternValidator extends BaseJsonValidator<OAI3> {
     pattern = schemaNode.isTextual() ? Pattern.compile(schemaNode.textValue()) : null;
   }
 
+  @Override
+  public boolean appliesTo(final JsonNodeType nodeType) {
+    // Wrong pattern definition is reported for any value
+    return pattern == null || nodeType == JsonNodeType.STRING;
+  }
+
   @Override
   public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
     if (pattern == null) {
       validation.add(CRUMB_INFO, PATTERN_DEF_ERR, patternStr);
       return false;
-    } else if (!valueNode.isTextual()) {
-      return false;
     }
 
     String value = valueNode.textValue();
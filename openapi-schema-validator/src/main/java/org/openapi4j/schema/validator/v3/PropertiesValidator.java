@@ -1,6 +1,7 @@
 package org.openapi4j.schema.validator.v3;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.BaseJsonValidator;
@@ -18,7 +19,7 @@ import java.util.Map;
  * <p/>
  * <a href="https://tools.ietf.org/html/draft-wright-json-schema-validation-00#page-9" />
  */
-class PropertiesValidator extends BaseJsonValidator<OAI3> {
+class PropertiesValidator extends BaseJsonValidator<OAI3> implements TypedValidator {
   private final Map<String, SchemaValidator> schemas;
 
   PropertiesValidator(final ValidationContext<OAI3> context, final JsonNode schemaNode, final JsonNode schemaParentNode, final SchemaValidator parentSchema) {
@@ -31,6 +32,11 @@ class PropertiesValidator extends BaseJsonValidator<OAI3> {
     }
   }
 
+  @Override
+  public boolean appliesTo(final JsonNodeType nodeType) {
+    return nodeType == JsonNodeType.OBJECT;
+  }
+
   @Override
   public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
     validate(() -> {
@@ -46,4 +52,12 @@ class PropertiesValidator extends BaseJsonValidator<OAI3> {
 
     return false;
   }
+
+  /**
+   * @param propertyName The property name.
+   * @return The schema of the property, {@code null} if not defined.
+   */
+  SchemaValidator getSchema(final String propertyName) {
+    return schemas.get(propertyName);
+  }
 }
@@ -43,9 +43,22 @@ class ReferenceValidator extends BaseJsonValidator<OAI3> {
       // Check visited references to break infinite looping
       JsonValidator validator = context.getReference(refValue);
       if (validator == null) {
-        ReferenceValidator refValidator = new ReferenceValidator(context, refValue, schemaNode, schemaParentNode, parentSchema);
-        refValidator.setSchemaValidator(new SchemaValidator(context, new ValidationResults.CrumbInfo(schemaNode.textValue(), true), reference.getContent(), schemaParentNode, parentSchema));
-        schemaValidator = refValidator;
+        // References are published to other threads once the outermost one is complete
+        boolean isOutermost = !context.hasPendingReferences();
+        try {
+          ReferenceValidator refValidator = new ReferenceValidator(context, refValue, schemaNode, schemaParentNode, parentSchema);
+          refValidator.setSchemaValidator(new SchemaValidator(context, new ValidationResults.CrumbInfo(schemaNode.textValue(), true), reference.getContent(), schemaParentNode, parentSchema));
+          schemaValidator = refValidator;
+        } catch (RuntimeException ex) {
+          if (isOutermost) {
+            context.discardReferences();
+          }
+          throw ex;
+        }
+
+        if (isOutermost) {
+          context.publishReferences();
+        }
       } else {
         schemaValidator = validator;
       }
@@ -83,4 +96,15 @@ class ReferenceValidator extends BaseJsonValidator<OAI3> {
 
     return false;
   }
+
+  /**
+   * @return The targeted schema validator, or {@code null} if not a schema validator.
+   */
+  SchemaValidator getSchema() {
+    if (schemaValidator instanceof ReferenceValidator) {
+      return ((ReferenceValidator) schemaValidator).getSchema();
+    }
+
+    return (schemaValidator instanceof SchemaValidator) ? (SchemaValidator) schemaValidator : null;
+  }
 }
@@ -10,6 +10,7 @@ import org.openapi4j.schema.validator.ValidationData;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.REQUIRED;
 import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
@@ -54,4 +55,20 @@ class RequiredValidator extends BaseJsonValidator<OAI3> {
 
     return false;
   }
+
+  /**
+   * Validate against the field names of an object read elsewhere (i.e. streamed).
+   *
+   * @param presentFieldNames The field names found in the object.
+   * @param validation        The validation data delegate and results.
+   */
+  void validateFields(final Set<String> presentFieldNames, final ValidationData<?> validation) {
+    if (fieldNames == null) return;
+
+    for (String fieldName : fieldNames) {
+      if (!presentFieldNames.contains(fieldName)) {
+        validation.add(CRUMB_INFO, ERR, fieldName);
+      }
+    }
+  }
 }
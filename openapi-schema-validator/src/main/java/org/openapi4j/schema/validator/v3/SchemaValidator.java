@@ -1,7 +1,10 @@
 package org.openapi4j.schema.validator.v3;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
 import org.openapi4j.core.exception.ResolutionException;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.model.v3.OAI3Context;
@@ -12,12 +15,19 @@ import org.openapi4j.schema.validator.JsonValidator;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.*;
 import static org.openapi4j.schema.validator.v3.ValidationOptions.ADDITIONAL_PROPS_RESTRICT;
@@ -28,9 +38,25 @@ import static org.openapi4j.schema.validator.v3.ValidationOptions.ADDITIONAL_PRO
  */
 public class SchemaValidator extends BaseJsonValidator<OAI3> {
   private static final JsonNode FALSE_NODE = JsonNodeFactory.instance.booleanNode(false);
+  // Placeholder for keywords checking only the kind of the value
+  private static final JsonNode EMPTY_ARRAY_NODE = JsonNodeFactory.instance.arrayNode();
+  private static final JsonNode EMPTY_OBJECT_NODE = JsonNodeFactory.instance.objectNode();
 
   private final ValidationResults.CrumbInfo crumbInfo;
-  private final Map<String, Collection<JsonValidator>> validators;
+  // Compiled validators of all keywords, ordered by cost, per node type ordinal
+  private final JsonValidator[][] programs;
+  // Index in program of the first validator of the next keyword, per node type ordinal
+  private final int[][] nextKeywordIndexes;
+  // Validators of streamed values, resolved once from keywords
+  private final ReferenceValidator referenceValidator;
+  private final boolean isArrayStreamable;
+  private final boolean isObjectStreamable;
+  private final JsonValidator[] kindValidators;
+  private final SchemaValidator itemsSchema;
+  private final MinItemsValidator minItemsValidator;
+  private final MaxItemsValidator maxItemsValidator;
+  private final PropertiesValidator propertiesValidator;
+  private final RequiredValidator requiredValidator;
 
   /**
    * Create a new Schema Object validator.
@@ -81,7 +107,37 @@ public class SchemaValidator extends BaseJsonValidator<OAI3> {
     super(context, schemaNode, schemaParentNode, parentSchema);
 
     this.crumbInfo = crumbInfo;
-    validators = read(this.context, schemaNode);
+    Map<String, Collection<JsonValidator>> validators = read(this.context, schemaNode);
+
+    // Compile keyword validators to flat programs per node type, cheapest keywords first
+    List<Map.Entry<String, Collection<JsonValidator>>> keywords = new ArrayList<>(validators.entrySet());
+    keywords.sort(Comparator.comparingInt(entry -> ValidatorsRegistry.instance().getExecutionRank(entry.getKey())));
+
+    JsonNodeType[] nodeTypes = JsonNodeType.values();
+    programs = new JsonValidator[nodeTypes.length][];
+    nextKeywordIndexes = new int[nodeTypes.length][];
+    for (JsonNodeType nodeType : nodeTypes) {
+      compile(keywords, nodeType);
+    }
+
+    // Resolve validators of streamed values, no lookup is made while reading
+    referenceValidator = (validators.size() == 1) ? getValidator(validators, $REF, ReferenceValidator.class) : null;
+    isArrayStreamable = isStreamable(validators, true);
+    isObjectStreamable = isStreamable(validators, false);
+
+    List<JsonValidator> kinds = new ArrayList<>();
+    for (String keyword : new String[]{TYPE, NULLABLE}) {
+      if (validators.containsKey(keyword)) {
+        kinds.add(validators.get(keyword).iterator().next());
+      }
+    }
+    kindValidators = kinds.toArray(new JsonValidator[0]);
+    ItemsValidator itemsValidator = getValidator(validators, ITEMS, ItemsValidator.class);
+    itemsSchema = (itemsValidator != null) ? itemsValidator.getSchema() : null;
+    minItemsValidator = getValidator(validators, MINITEMS, MinItemsValidator.class);
+    maxItemsValidator = getValidator(validators, MAXITEMS, MaxItemsValidator.class);
+    propertiesValidator = getValidator(validators, PROPERTIES, PropertiesValidator.class);
+    requiredValidator = getValidator(validators, REQUIRED, RequiredValidator.class);
   }
 
   /**
@@ -98,6 +154,44 @@ public class SchemaValidator extends BaseJsonValidator<OAI3> {
     return true;
   }
 
+  /**
+   * Validate the JSON value read from the given parser.
+   * <p/>
+   * Arrays and objects are validated item by item while reading, so only the current item is held in memory.
+   * The value is read as a whole tree when the schema needs it (i.e. uniqueItems, enum, oneOf, ...),
+   * see {@link #isStreamable()}. This tree is only used for validation and is not returned.
+   * <p/>
+   * The parser is left on the last token of the value. In fast fail mode, the remaining content
+   * of an invalid array or object is skipped without being validated nor built.
+   *
+   * @param parser     The parser, positioned before or at the first token of the value.
+   * @param validation The validation data delegate and results.
+   * @throws IOException When the value can't be read.
+   */
+  public void validate(final JsonParser parser, final ValidationData<?> validation) throws IOException {
+    try {
+      validateFromParser(parser, validation);
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    }
+  }
+
+  /**
+   * Check if arrays or objects validated from a parser are read while validating, depending on the keywords.
+   * Otherwise, {@link #validate(JsonParser, ValidationData)} reads them as a whole tree first.
+   *
+   * @return {@code true} if arrays or objects are validated while reading.
+   */
+  public boolean isStreamable() {
+    // Target of the reference may be set after this schema is built (i.e. recursive schemas)
+    SchemaValidator refSchema = (referenceValidator != null) ? referenceValidator.getSchema() : null;
+    if (refSchema != null) {
+      return refSchema.isStreamable();
+    }
+
+    return isArrayStreamable || isObjectStreamable;
+  }
+
   /**
    * Get the context of validation.
    */
@@ -122,19 +216,20 @@ public class SchemaValidator extends BaseJsonValidator<OAI3> {
   }
 
   private void fastFailValidate(final JsonNode valueNode, final ValidationData<?> validation) throws ValidationException {
-    validation.results().withCrumb(crumbInfo, () -> {
-      for (Collection<JsonValidator> keywordValidators : validators.values()) {
-        for (JsonValidator validator : keywordValidators) {
-          boolean shouldChain = validator.validate(valueNode, validation);
+    final JsonValidator[] program = programs[valueNode.getNodeType().ordinal()];
+    final int[] nextIndexes = nextKeywordIndexes[valueNode.getNodeType().ordinal()];
 
-          if (!validation.isValid()) {
-            return;
-          }
+    validation.results().withCrumb(crumbInfo, () -> {
+      int index = 0;
+      while (index < program.length) {
+        boolean shouldChain = program[index].validate(valueNode, validation);
 
-          if (!shouldChain) {
-            break;
-          }
+        if (!validation.isValid()) {
+          return;
         }
+
+        // Skip the remaining validators of the keyword if chain is broken
+        index = shouldChain ? index + 1 : nextIndexes[index];
       }
     });
 
@@ -144,22 +239,217 @@ public class SchemaValidator extends BaseJsonValidator<OAI3> {
   }
 
   private void defaultValidate(final JsonNode valueNode, final ValidationData<?> validation) {
+    final JsonValidator[] program = programs[valueNode.getNodeType().ordinal()];
+    final int[] nextIndexes = nextKeywordIndexes[valueNode.getNodeType().ordinal()];
+
     validation.results().withCrumb(crumbInfo, () -> {
-      for (Collection<JsonValidator> keywordValidators : validators.values()) {
-        for (JsonValidator validator : keywordValidators) {
-          if (!validator.validate(valueNode, validation)) {
-            break;
-          }
-        }
+      int index = 0;
+      while (index < program.length) {
+        // Skip the remaining validators of the keyword if chain is broken
+        index = program[index].validate(valueNode, validation) ? index + 1 : nextIndexes[index];
       }
     });
   }
 
+  private void validateFromParser(final JsonParser parser, final ValidationData<?> validation) throws IOException {
+    JsonToken token = parser.currentToken() != null ? parser.currentToken() : parser.nextToken();
+
+    if (token == JsonToken.START_ARRAY || token == JsonToken.START_OBJECT) {
+      // Target of the reference may be set after this schema is built (i.e. recursive schemas)
+      SchemaValidator refSchema = (referenceValidator != null) ? referenceValidator.getSchema() : null;
+      if (refSchema != null) {
+        validation.results().withCrumb(crumbInfo, () -> readValue(() -> refSchema.validateFromParser(parser, validation)));
+        return;
+      } else if (token == JsonToken.START_ARRAY && isArrayStreamable) {
+        validateArray(parser, validation);
+        return;
+      } else if (token == JsonToken.START_OBJECT && isObjectStreamable) {
+        validateObject(parser, validation);
+        return;
+      }
+    }
+
+    validate(token != null ? parser.<JsonNode>readValueAsTree() : null, validation);
+  }
+
+  private void validateArray(final JsonParser parser, final ValidationData<?> validation) {
+    validation.results().withCrumb(crumbInfo, () -> readValue(() -> {
+      // Kind of the value is already known
+      for (JsonValidator kindValidator : kindValidators) {
+        kindValidator.validate(EMPTY_ARRAY_NODE, validation);
+      }
+
+      int size = 0;
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        if (context.isFastFail() && !validation.isValid()) {
+          skipRemaining(parser);
+          return;
+        }
+
+        if (itemsSchema != null) {
+          validation.results().withCrumb(
+            new ValidationResults.CrumbInfo(Integer.toString(size), false),
+            () -> readValue(() -> itemsSchema.validateFromParser(parser, validation)));
+        } else {
+          parser.skipChildren();
+        }
+        size++;
+      }
+
+      if (minItemsValidator != null) {
+        minItemsValidator.validateSize(size, validation);
+      }
+      if (maxItemsValidator != null) {
+        maxItemsValidator.validateSize(size, validation);
+      }
+    }));
+  }
+
+  private void validateObject(final JsonParser parser, final ValidationData<?> validation) {
+    validation.results().withCrumb(crumbInfo, () -> readValue(() -> {
+      // Kind of the value is already known
+      for (JsonValidator kindValidator : kindValidators) {
+        kindValidator.validate(EMPTY_OBJECT_NODE, validation);
+      }
+
+      Set<String> fieldNames = (requiredValidator != null) ? new HashSet<>() : null;
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        if (context.isFastFail() && !validation.isValid()) {
+          skipRemaining(parser);
+          return;
+        }
+
+        String fieldName = parser.getCurrentName();
+        if (fieldNames != null) {
+          fieldNames.add(fieldName);
+        }
+
+        parser.nextToken();
+        SchemaValidator propertySchema = (propertiesValidator != null) ? propertiesValidator.getSchema(fieldName) : null;
+        if (propertySchema != null) {
+          propertySchema.validateFromParser(parser, validation);
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      if (requiredValidator != null) {
+        requiredValidator.validateFields(fieldNames, validation);
+      }
+    }));
+  }
+
+  /**
+   * Skip the remaining tokens of the array or object being read, up to its end token.
+   * The parser is then positioned as if the value was fully validated.
+   */
+  private static void skipRemaining(final JsonParser parser) throws IOException {
+    int depth = 1;
+    JsonToken token = parser.currentToken();
+    while (token != null) {
+      if (token.isStructStart()) {
+        depth++;
+      } else if (token.isStructEnd() && --depth == 0) {
+        return;
+      }
+      token = parser.nextToken();
+    }
+  }
+
+  /**
+   * Check if arrays or objects can be validated without reading them as a whole.
+   * Only items & size keywords for arrays, properties & required keywords for objects,
+   * type & nullable keywords for both are allowed with their default validators.
+   */
+  private static boolean isStreamable(final Map<String, Collection<JsonValidator>> validators, final boolean isArray) {
+    for (Map.Entry<String, Collection<JsonValidator>> entry : validators.entrySet()) {
+      Class<? extends JsonValidator> validatorClass;
+      switch (entry.getKey()) {
+        case TYPE: validatorClass = TypeValidator.class; break;
+        case NULLABLE: validatorClass = NullableValidator.class; break;
+        case ITEMS: validatorClass = isArray ? ItemsValidator.class : null; break;
+        case MINITEMS: validatorClass = isArray ? MinItemsValidator.class : null; break;
+        case MAXITEMS: validatorClass = isArray ? MaxItemsValidator.class : null; break;
+        case PROPERTIES: validatorClass = isArray ? null : PropertiesValidator.class; break;
+        case REQUIRED: validatorClass = isArray ? null : RequiredValidator.class; break;
+        default: return false;
+      }
+
+      if (validatorClass == null) {
+        return false;
+      }
+
+      if (getValidator(validators, entry.getKey(), validatorClass) == null) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * @return The single validator of the keyword if it is of the given class, {@code null} otherwise.
+   */
+  private static <T extends JsonValidator> T getValidator(final Map<String, Collection<JsonValidator>> validators,
+                                                         final String keyword,
+                                                         final Class<T> validatorClass) {
+    Collection<JsonValidator> keywordValidators = validators.get(keyword);
+    if (keywordValidators == null || keywordValidators.size() != 1) {
+      return null;
+    }
+
+    JsonValidator validator = keywordValidators.iterator().next();
+    return validatorClass.isInstance(validator) ? validatorClass.cast(validator) : null;
+  }
+
+  /**
+   * Compile the validators applicable to the given node type to a flat program.
+   */
+  private void compile(final List<Map.Entry<String, Collection<JsonValidator>>> keywords, final JsonNodeType nodeType) {
+    List<JsonValidator> program = new ArrayList<>();
+    List<Integer> keywordEnds = new ArrayList<>();
+
+    for (Map.Entry<String, Collection<JsonValidator>> keyword : keywords) {
+      for (JsonValidator validator : keyword.getValue()) {
+        if (!(validator instanceof TypedValidator) || ((TypedValidator) validator).appliesTo(nodeType)) {
+          program.add(validator);
+        }
+      }
+      keywordEnds.add(program.size());
+    }
+
+    int[] nextIndexes = new int[program.size()];
+    int index = 0;
+    for (int keywordEnd : keywordEnds) {
+      while (index < keywordEnd) {
+        nextIndexes[index++] = keywordEnd;
+      }
+    }
+
+    programs[nodeType.ordinal()] = program.toArray(new JsonValidator[0]);
+    nextKeywordIndexes[nodeType.ordinal()] = nextIndexes;
+  }
+
+  private static void readValue(final ValueReader reader) {
+    try {
+      reader.read();
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  @FunctionalInterface
+  private interface ValueReader {
+    void read() throws IOException;
+  }
+
   /**
    * Read the schema and create dedicated validators from keywords.
    */
   private Map<String, Collection<JsonValidator>> read(final ValidationContext<OAI3> context, final JsonNode schemaNode) {
-    Map<String, Collection<JsonValidator>> validatorMap = new HashMap<>();
+    // Keywords are kept in schema order
+    Map<String, Collection<JsonValidator>> validatorMap = new LinkedHashMap<>();
 
     Iterator<String> fieldNames = schemaNode.fieldNames();
     while (fieldNames.hasNext()) {
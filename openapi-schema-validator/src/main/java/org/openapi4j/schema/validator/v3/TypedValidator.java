@@ -0,0 +1,16 @@
+package org.openapi4j.schema.validator.v3;
+
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+
+/**
+ * Validator checking values of specific node types only (i.e. strings for maxLength).
+ * <p/>
+ * Values of other types are not given to the validator, so it doesn't need to check the type by itself.
+ */
+interface TypedValidator {
+  /**
+   * @param nodeType The type of the value.
+   * @return {@code true} if the validator checks values of the given type.
+   */
+  boolean appliesTo(JsonNodeType nodeType);
+}
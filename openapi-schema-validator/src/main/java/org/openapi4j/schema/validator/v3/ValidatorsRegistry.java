@@ -68,6 +68,45 @@ class ValidatorsRegistry {
     return validatorInstances;
   }
 
+  /**
+   * Get the execution rank of the given keyword, from the cheapest to the most expensive checks.
+   * Cheap rejections are made first, which saves the costly ones in fast fail mode.
+   *
+   * @param keyword The given keyword.
+   * @return The rank of the keyword, lowest is first.
+   */
+  int getExecutionRank(final String keyword) {
+    switch (keyword) {
+      case TYPE: return 0;
+      case NULLABLE: return 1;
+      case ENUM: return 2;
+      case MAXIMUM:
+      case MAXITEMS:
+      case MAXLENGTH:
+      case MAXPROPERTIES:
+      case MINIMUM:
+      case MINITEMS:
+      case MINLENGTH:
+      case MINPROPERTIES:
+      case MULTIPLEOF:
+      case REQUIRED: return 3;
+      case FORMAT:
+      case PATTERN: return 4;
+      case DEPENDENCIES:
+      case UNIQUEITEMS: return 5;
+      case $REF:
+      case ADDITIONALPROPERTIES:
+      case ITEMS:
+      case PATTERNPROPERTIES:
+      case PROPERTIES: return 6;
+      case ALLOF:
+      case ANYOF:
+      case NOT:
+      case ONEOF: return 7;
+      default: return 8; // Unknown cost of custom keywords
+    }
+  }
+
   private ValidatorInstance getCoreValidator(final String keyword) {
     switch (keyword) {
       case ADDITIONALPROPERTIES: return AdditionalPropertiesValidator::new;
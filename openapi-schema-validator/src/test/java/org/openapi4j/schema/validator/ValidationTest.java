@@ -1,5 +1,7 @@
 package org.openapi4j.schema.validator;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.junit.Test;
@@ -12,10 +14,20 @@ import org.openapi4j.schema.validator.v3.*;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.openapi4j.schema.validator.v3.ValidationOptions.ADDITIONAL_PROPS_RESTRICT;
 
 public class ValidationTest {
@@ -266,6 +278,189 @@ public class ValidationTest {
     assertEquals("/f~0~1oo", validation.results().items().get(0).dataJsonPointer());
   }
 
+  @Test
+  public void fastFailSkipsRemainingStreamedContent() throws Exception {
+    checkFastFailStream(
+      "{ \"type\": \"array\", \"items\": { \"type\": \"integer\" } }",
+      "[\"a\", 2, [3, { \"b\": 4 }], 5]",
+      JsonToken.END_ARRAY);
+
+    checkFastFailStream(
+      "{ \"type\": \"object\", \"properties\": { \"a\": { \"type\": \"integer\" } } }",
+      "{ \"a\": \"x\", \"b\": { \"c\": [1, 2] }, \"d\": 3 }",
+      JsonToken.END_OBJECT);
+  }
+
+  @Test
+  public void streamableSchemas() throws Exception {
+    assertTrue(new SchemaValidator(null, TreeUtil.json.readTree("{ \"items\": { \"enum\": [1] }, \"maxItems\": 2 }")).isStreamable());
+    assertTrue(new SchemaValidator(null, TreeUtil.json.readTree("{ \"properties\": { \"a\": {} }, \"required\": [\"a\"] }")).isStreamable());
+    assertFalse(new SchemaValidator(null, TreeUtil.json.readTree("{ \"items\": {}, \"uniqueItems\": true }")).isStreamable());
+    assertFalse(new SchemaValidator(null, TreeUtil.json.readTree("{ \"enum\": [[1]] }")).isStreamable());
+  }
+
+  @Test
+  public void fastFailCheapKeywordsFirst() throws Exception {
+    // Costly keywords are declared first
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"pattern\": \"^a+$\", \"maxLength\": 2, \"type\": \"string\" }");
+
+    OAI3Context apiContext = new OAI3Context(new URL("file:/"), schemaNode);
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(apiContext);
+    validationContext.setFastFail(true);
+
+    SchemaValidator validator = new SchemaValidator(validationContext, null, schemaNode);
+
+    ValidationData<Void> validation = new ValidationData<>();
+    validator.validate(JsonNodeFactory.instance.numberNode(1), validation);
+    assertEquals(1, validation.results().size());
+    assertEquals("<type>", validation.results().items().get(0).schemaCrumbs());
+
+    validation = new ValidationData<>();
+    validator.validate(JsonNodeFactory.instance.textNode("bbbb"), validation);
+    assertEquals(1, validation.results().size());
+    assertEquals("<maxLength>", validation.results().items().get(0).schemaCrumbs());
+  }
+
+  @Test
+  public void keywordsOfOtherTypesAreIgnored() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"maxLength\": 1, \"minimum\": 5, \"maxItems\": 0, \"uniqueItems\": true }");
+    SchemaValidator validator = new SchemaValidator(null, schemaNode);
+
+    ValidationData<Void> validation = new ValidationData<>();
+    validator.validate(TreeUtil.json.readTree("{ \"a\": 1, \"b\": 1 }"), validation);
+    assertEquals(0, validation.results().size());
+
+    validator.validate(TreeUtil.json.readTree("[1, 1]"), validation);
+    assertEquals(2, validation.results().size());
+  }
+
+  @Test
+  public void programPerNodeType() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"maxLength\": 1, \"minimum\": 5, \"maxItems\": 0, \"maxProperties\": 0 }");
+    SchemaValidator validator = new SchemaValidator(null, schemaNode);
+
+    checkSchemaCrumbs(validator, JsonNodeFactory.instance.textNode("ab"), "<maxLength>");
+    checkSchemaCrumbs(validator, JsonNodeFactory.instance.numberNode(1), "<minimum>");
+    checkSchemaCrumbs(validator, TreeUtil.json.readTree("[1]"), "<maxItems>");
+    checkSchemaCrumbs(validator, TreeUtil.json.readTree("{ \"a\": 1 }"), "<maxProperties>");
+    checkSchemaCrumbs(validator, JsonNodeFactory.instance.booleanNode(true));
+  }
+
+  @Test
+  public void keywordsOrderedByCost() throws Exception {
+    // Costly keywords are declared first
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"pattern\": \"^a+$\", \"maxLength\": 2, \"enum\": [\"a\"], \"type\": \"string\" }");
+    SchemaValidator validator = new SchemaValidator(null, schemaNode);
+
+    checkSchemaCrumbs(validator, JsonNodeFactory.instance.textNode("bbbb"), "<enum>", "<maxLength>", "<pattern>");
+  }
+
+  @Test
+  public void brokenChainSkipsKeyword() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"pattern\": \"^a+$\", \"maxLength\": 2 }");
+
+    OAI3Context apiContext = new OAI3Context(new URL("file:/"), schemaNode);
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(apiContext);
+    validationContext.addValidator(
+      OAI3SchemaKeywords.MAXLENGTH,
+      (context, node, parentNode, parentSchema) -> new ChainInfoValidator(context, node, parentNode, parentSchema, false));
+
+    SchemaValidator validator = new SchemaValidator(validationContext, null, schemaNode);
+
+    // Core maxLength validator is skipped, next keyword is validated
+    ValidationData<Void> validation = new ValidationData<>();
+    validator.validate(JsonNodeFactory.instance.textNode("bbbb"), validation);
+    assertEquals(2, validation.results().size());
+    assertEquals(ValidationSeverity.INFO, validation.results().items().get(0).severity());
+    assertEquals("<maxLength>", validation.results().items().get(0).schemaCrumbs());
+    assertEquals("<pattern>", validation.results().items().get(1).schemaCrumbs());
+  }
+
+  @Test
+  public void customValidatorsBeforeCoreOnes() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"maxLength\": 2 }");
+
+    OAI3Context apiContext = new OAI3Context(new URL("file:/"), schemaNode);
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(apiContext);
+    validationContext.addValidator(
+      OAI3SchemaKeywords.MAXLENGTH,
+      (context, node, parentNode, parentSchema) -> new ChainInfoValidator(context, node, parentNode, parentSchema, true));
+
+    SchemaValidator validator = new SchemaValidator(validationContext, null, schemaNode);
+
+    ValidationData<Void> validation = new ValidationData<>();
+    validator.validate(JsonNodeFactory.instance.textNode("bbbb"), validation);
+    assertEquals(2, validation.results().size());
+    assertEquals(ValidationSeverity.INFO, validation.results().items().get(0).severity());
+    assertEquals(ValidationSeverity.ERROR, validation.results().items().get(1).severity());
+    assertEquals("<maxLength>", validation.results().items().get(1).schemaCrumbs());
+  }
+
+  @Test
+  public void compiledValidatorIsShared() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"type\": \"integer\" }");
+
+    OAI3Context apiContext = new OAI3Context(new URL("file:/"), schemaNode);
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(apiContext);
+
+    SchemaValidator validator = validationContext.getCompiledValidator(
+      "body@#/components/schemas/MyInt",
+      SchemaValidator.class,
+      () -> new SchemaValidator(validationContext, "body", schemaNode));
+
+    assertSame(validator, validationContext.getCompiledValidator("body@#/components/schemas/MyInt", SchemaValidator.class, () -> null));
+    assertNotSame(validator, validationContext.getCompiledValidator(
+      "param@#/components/schemas/MyInt",
+      SchemaValidator.class,
+      () -> new SchemaValidator(validationContext, "param", schemaNode)));
+  }
+
+  @Test
+  public void concurrentCompilation() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree(
+      "{ \"properties\": { \"child\": { \"$ref\": \"#/components/schemas/Node\" } }, " +
+        "\"components\": { \"schemas\": { \"Node\": { \"properties\": { " +
+        "\"child\": { \"$ref\": \"#/components/schemas/Node\" }, \"value\": { \"type\": \"integer\" } } } } } }");
+
+    OAI3Context apiContext = new OAI3Context(new URL("file:/"), schemaNode);
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(apiContext);
+    validationContext.freeze();
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<SchemaValidator>> validators = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        validators.add(executor.submit(() -> new SchemaValidator(validationContext, null, schemaNode)));
+      }
+
+      for (Future<SchemaValidator> validator : validators) {
+        ValidationData<Void> validation = new ValidationData<>();
+        validator.get().validate(TreeUtil.json.readTree("{ \"child\": { \"child\": { \"value\": 1 } } }"), validation);
+        assertTrue(validation.isValid());
+
+        validator.get().validate(TreeUtil.json.readTree("{ \"child\": { \"child\": { \"value\": \"1\" } } }"), validation);
+        assertFalse(validation.isValid());
+      }
+
+      // Pending references are dropped once published
+      assertFalse(executor.submit(validationContext::hasPendingReferences).get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void frozenContext() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"type\": \"integer\" }");
+
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(new OAI3Context(new URL("file:/"), schemaNode));
+    validationContext.setFastFail(true).freeze();
+
+    assertTrue(validationContext.isFrozen());
+    assertTrue(validationContext.isFastFail());
+    validationContext.setOption(ADDITIONAL_PROPS_RESTRICT, true);
+  }
+
   @Test(expected = RuntimeException.class)
   public void schemaValidatorResolutionException() throws RuntimeException, IOException {
     new SchemaValidator(
@@ -284,4 +479,32 @@ public class ValidationTest {
 
     assertEquals(validationContext, validator.getContext());
   }
+
+  private void checkFastFailStream(String schema, String content, JsonToken endToken) throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree(schema);
+
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(new OAI3Context(new URL("file:/"), schemaNode));
+    validationContext.setFastFail(true);
+    SchemaValidator validator = new SchemaValidator(validationContext, null, schemaNode);
+
+    ValidationData<Void> validation = new ValidationData<>();
+    try (JsonParser parser = TreeUtil.json.getFactory().createParser(content)) {
+      validator.validate(parser, validation);
+
+      assertEquals(1, validation.results().size());
+      // Parser is left at the end of the value
+      assertEquals(endToken, parser.currentToken());
+      assertNull(parser.nextToken());
+    }
+  }
+
+  private void checkSchemaCrumbs(SchemaValidator validator, JsonNode value, String... schemaCrumbs) {
+    ValidationData<Void> validation = new ValidationData<>();
+    validator.validate(value, validation);
+
+    assertEquals(validation.results().toString(), schemaCrumbs.length, validation.results().size());
+    for (int i = 0; i < schemaCrumbs.length; i++) {
+      assertEquals(schemaCrumbs[i], validation.results().items().get(i).schemaCrumbs());
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package org.openapi4j.schema.validator;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.junit.Assert;
@@ -9,6 +10,7 @@ import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.schema.validator.v3.SchemaValidator;
 import org.openapi4j.schema.validator.v3.ValidatorInstance;
 
+import java.io.IOException;
 import java.net.URL;
 import java.util.Map;
 
@@ -51,7 +53,7 @@ class ValidationUtil {
     }
   }
 
-  private static void doTests(SchemaValidator schemaValidator, JsonNode testCase, String testDescription) {
+  private static void doTests(SchemaValidator schemaValidator, JsonNode testCase, String testDescription) throws IOException {
     ArrayNode testNodes = (ArrayNode) testCase.get("tests");
     for (int i = 0; i < testNodes.size(); i++) {
       JsonNode test = testNodes.get(i);
@@ -76,6 +78,24 @@ class ValidationUtil {
       if (isValidExpected != validation.results().isValid()) {
         Assert.fail();
       }
+
+      // Streamed validation must give the same result
+      if (contentNode == null) {
+        continue;
+      }
+      ValidationData<Void> streamValidation = new ValidationData<>();
+      try (JsonParser parser = TreeUtil.json.getFactory().createParser(contentNode.toString())) {
+        schemaValidator.validate(parser, streamValidation);
+      }
+      if (isValidExpected != streamValidation.isValid()) {
+        System.out.println(String.format(
+          "STREAM TEST FAILURE : %s - %s\nData : %s",
+          testDescription,
+          test.get("description"),
+          contentNode));
+
+        Assert.fail();
+      }
     }
   }
 }
@@ -0,0 +1,36 @@
+package org.openapi4j.schema.validator.v3;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openapi4j.core.model.v3.OAI3;
+import org.openapi4j.core.validation.ValidationResult;
+import org.openapi4j.core.validation.ValidationResults;
+import org.openapi4j.core.validation.ValidationSeverity;
+import org.openapi4j.schema.validator.BaseJsonValidator;
+import org.openapi4j.schema.validator.ValidationContext;
+import org.openapi4j.schema.validator.ValidationData;
+
+import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.MAXLENGTH;
+
+public class ChainInfoValidator extends BaseJsonValidator<OAI3> {
+  private static final ValidationResult INFO = new ValidationResult(ValidationSeverity.INFO, null, "Chain is '%s'.");
+  private static final ValidationResults.CrumbInfo CRUMB_INFO = new ValidationResults.CrumbInfo(MAXLENGTH, true);
+
+  private final boolean shouldChain;
+
+  public ChainInfoValidator(ValidationContext<OAI3> context,
+                            JsonNode schemaNode,
+                            JsonNode schemaParentNode,
+                            SchemaValidator parentSchema,
+                            boolean shouldChain) {
+
+    super(context, schemaNode, schemaParentNode, parentSchema);
+
+    this.shouldChain = shouldChain;
+  }
+
+  @Override
+  public boolean validate(JsonNode valueNode, ValidationData<?> validation) {
+    validation.add(CRUMB_INFO, INFO, shouldChain);
+    return shouldChain;
+  }
+}